@@ -8,4 +8,6 @@ module net.chess.chess {
 
     opens net.chess.chess to javafx.fxml;
     exports net.chess.chess;
+    exports net.chess.chess.engine;
+    exports net.chess.chess.position;
 }
\ No newline at end of file
@@ -11,8 +11,10 @@ import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import net.chess.chess.board.Mode;
 import net.chess.chess.board.Panel;
-import net.chess.chess.logging.CustomFormatter;
+import net.chess.chess.engine.Limits;
+import net.chess.chess.logging.ChessLogger;
 import net.chess.chess.piece.PieceColor;
+import net.chess.chess.player.Computer;
 import net.chess.chess.player.Player;
 
 import java.io.File;
@@ -21,35 +23,21 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class ChessApplication extends Application {
     public static final DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy.MM.dd");
     public static final LocalDateTime now = LocalDateTime.now();
-    public static final Logger logger;
+    public static final Logger logger = ChessLogger.logger;
     public static final String pgn = "game.pgn";
     public static final File pgn_file;
     public static final Image icon = new Image(Objects.requireNonNull(ChessApplication.class.getResourceAsStream("icon.png")));
     private static final int BOARD_SIZE = 8;
     public static final int TILE_SIZE = 80;
-    private static final String[] options = {"Standard Game", "Test"};
+    private static final String[] options = {"Standard Game", "Versus Computer", "Test"};
+    private static final long computer_nodes = 200_000L;
 
     static {
-        final FileHandler file;
-        try {
-            file = new FileHandler("./chess.log", false);
-            file.setFormatter(new CustomFormatter());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-
-        logger = Logger.getLogger(ChessApplication.class.getName());
-        logger.setLevel(Level.ALL);
-        logger.setUseParentHandlers(false);
-        logger.addHandler(file);
-
         final File pgn_dir = new File("./pgn/");
         if (!pgn_dir.exists())
             pgn_dir.mkdir();
@@ -81,6 +69,9 @@ public class ChessApplication extends Application {
                 case "Standard Game":
                     normalMode(stage);
                     break;
+                case "Versus Computer":
+                    computerMode(stage);
+                    break;
                 case "Test":
                     testMode(stage);
                     break;
@@ -96,6 +87,14 @@ public class ChessApplication extends Application {
         createGameWindow(stage, panel);
     }
 
+    private void computerMode(Stage stage) {
+        logger.info("Computer Game");
+        final String whiteName = getPlayerName("White");
+        final Player black = new Computer("Computer", PieceColor.Black, Limits.nodes(computer_nodes),
+                Runtime.getRuntime().availableProcessors());
+        createGameWindow(stage, new Panel(Mode.Normal, new Player(whiteName, PieceColor.White), black));
+    }
+
     private void testMode(Stage stage) {
         logger.info("Test Mode");
         final FileChooser fileChooser = new FileChooser();
@@ -1,17 +1,26 @@
 package net.chess.chess.board;
 
+import javafx.application.Platform;
 import javafx.scene.control.ChoiceDialog;
 import net.chess.chess.ChessApplication;
 import net.chess.chess.file.PGNReader;
 import net.chess.chess.file.PGNWriter;
 import net.chess.chess.piece.*;
+import net.chess.chess.player.Computer;
 import net.chess.chess.player.Player;
+import net.chess.chess.position.Bitboards;
+import net.chess.chess.position.MoveCode;
+import net.chess.chess.position.Notation;
+import net.chess.chess.position.PieceCode;
+import net.chess.chess.position.Position;
+import net.chess.chess.position.Square;
 
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.logging.Level;
 
 /**
  * Chess board
@@ -72,20 +81,27 @@ public final class Chessboard {
     private Mode mode;
 
     /**
-     * {@link List} of {@link Move} made by the two {@link Player}s
+     * A reference to the next {@link Player}
      */
-    private final List<Move> moves;
+    private Player nextPlayer;
 
     /**
-     * A reference to the next {@link Player}
+     * Headless {@link Position} holding the rules of the game.<br>
+     * {@link #board} only displays it.
      */
-    private Player nextPlayer;
+    private final Position position;
 
     /**
      * {@link String} holding the result
      */
     private String result;
 
+    /**
+     * Thread searching the move of a {@link Computer}, or {@code null}.<br>
+     * Only read and written on the JavaFX Application Thread.
+     */
+    private Thread search;
+
     /**
      * Source {@link Tile}
      */
@@ -108,7 +124,7 @@ public final class Chessboard {
         this.white = Objects.requireNonNull(white, "White player cannot be null");
         this.black = Objects.requireNonNull(black, "Black player cannot be null");
         this.board = new Tile[8][8];
-        this.moves = new ArrayList<>();
+        this.position = new Position();
 
         this.createBoard();
         this.reset();
@@ -118,7 +134,7 @@ public final class Chessboard {
      * Move the selected {@link Piece} from {@link #source} to {@link #destination}
      */
     private void advancePiece() {
-        ChessApplication.logger.info("Advancing piece");
+        ChessApplication.logger.fine("Advancing piece");
         final Piece src_piece = this.source.getPiece(), dest_piece = this.destination.getPiece();
 
         if (dest_piece != null)
@@ -127,169 +143,39 @@ public final class Chessboard {
         this.currentPlayer.incrementScore(dest_piece);
         this.destination.updatePiece(src_piece);
         this.source.reset();
-
-        for (final Pawn pawn : this.nextPlayer.getPawn())
-            pawn.setEnPassant(false);
     }
 
     /**
-     * Append the move made to {@link #moves}
+     * Record that a move was made on {@link #position}.<br>
+     * Moves are kept as {@link MoveCode} by {@link #position}; their notation
+     * is only built by {@link #getMoves()}.
      *
-     * @param attack  determine if an enemy {@link Piece} was captured
-     * @param promote determine if a {@link Pawn} promoted.
+     * @param move {@link MoveCode} of the move made
      */
-    private void appendMove(final boolean attack, final PromoteState promote) {
-        Objects.requireNonNull(promote, "PromoteState cannot be null");
-        StringBuilder move = new StringBuilder();
-        final King ally_king, enemy_king;
-        enemy_king = switch (this.currentPlayer.color) {
-            case Black -> {
-                ally_king = this.black.getKing();
-                yield this.white.getKing();
-            }
-            case White -> {
-                ally_king = this.white.getKing();
-                yield this.black.getKing();
-            }
-            default -> throw new IllegalStateException("Illegal PieceColor:\t" + this.currentPlayer.color.name());
+    private void appendMove(final int move) {
+        final King ally_king = switch (this.currentPlayer.color) {
+            case Black -> this.black.getKing();
+            case White -> this.white.getKing();
         };
 
-        final CastleState castle = ally_king.getCastle();
-        final CheckState check = enemy_king.getCheckState();
-        final PieceType type = this.destination.getPiece().type;
-
-        // Append Castle state
-        switch (castle) {
-            case Fail:
-                break;
-            case Kingside:
-                move.append("O-O");
-                break;
-            case Queenside:
-                move.append("O-O-O");
-                break;
-            case Unattempted:
-                move.append(promote == PromoteState.Fail
-                        ? type == PieceType.Pawn ? attack ? this.source.fileToString() : "" : String.valueOf(type.an)
-                        : attack ? this.source.fileToString() : "");
-
-                final List<Tile> valid_tiles = this.findValidTiles(type);
-                switch (valid_tiles.size()) {
-                    case 1:
-                        break;
-                    case 2:
-                        final Tile other = valid_tiles.get(1);
-                        if (this.source.file != other.file)
-                            move.append(this.source.fileToString());
-                        else if (this.source.rank != other.rank)
-                            move.append(this.source.fileToString());
-                        else
-                            move.append(this.source.toString());
-                        break;
-                    default:
-                        move.append(this.source.toString());
-                        break;
-                }
-
-                move.append(attack ? "x" : "");
-                move.append(this.destination.toString());
-
-                break;
-            default:
-                throw new IllegalStateException("Illegal CastleState:\t" + ally_king.getCastle().name());
-        }
-
-        // Append promotion state
-        switch (promote) {
-            case Bishop:
-                move.append("=B");
-                break;
-            case Fail:
-                break;
-            case Knight:
-                move.append("=N");
-                break;
-            case Queen:
-                move.append("=Q");
-                break;
-            case Rook:
-                move.append("=R");
-                break;
-            default:
-                throw new IllegalStateException("Illegal PromoteState:\t" + promote.name());
-        }
-
-        // Append check state
-        switch (check) {
-            case Check:
-                move.append("+");
-                break;
-            case Fail, Stale:
-                break;
-            case Mate:
-                move.append("#");
-                break;
-            default:
-                throw new IllegalStateException("Illegal CheckState:\t" + check.name());
-        }
-
-        ChessApplication.logger.info("Appending move:\t" + move);
-        this.moves.add(new Move(move.toString(), this.toString(), this.source, this.destination));
+        ChessApplication.logger.fine(() -> "Appending move:\t" + MoveCode.toString(move));
         this.index++;
         ally_king.setCastle(CastleState.Unattempted);
     }
 
     /**
-     * Determine if a Piece can move from one {@link Tile} to another
-     *
-     * @param source source {@link Tile}
-     * @param destination   destination {@link Tile}
-     * @return {@code true}
-     */
-    private boolean canMove(final Tile source, final Tile destination) {
-        Objects.requireNonNull(source, "Source tile cannot be null");
-        Objects.requireNonNull(destination, "Destination tile cannot be null");
-        final Piece piece = source.getPiece();
-        if (piece == null)
-            return false;
-        if (piece.isAlly(destination.getPiece()))
-            return false;
-
-        final King king = switch (piece.color) {
-            case Black -> this.black.getKing();
-            case White -> this.white.getKing();
-        };
-        if (!piece.isLegal(source, destination))
-            return false;
-        if (this.collide(source, destination, piece.getTileTraversed(this.board, source, destination)))
-            return false;
-        return this.moveProtectKing(king, source, destination);
-    }
-
-    /**
-     * Determine if a piece collided with any other piece when moving from one
-     * {@link Tile} to another
+     * Determine if the {@link Player} to move can move a Piece from one {@link Tile} to another.<br>
+     * The move is tested on {@link #position}, so no {@link Tile} is touched.
      *
      * @param source      source {@link Tile}
      * @param destination destination {@link Tile}
-     * @param traversed   List of {@link Tile}
-     * @return {@code true} if a piece collides with another. false otherwise.<br>
+     * @return {@code true} if the move is legal<br>
      * {@code false} otherwise
      */
-    private boolean collide(final Tile source, final Tile destination, final List<Tile> traversed) {
+    private boolean canMove(final Tile source, final Tile destination) {
         Objects.requireNonNull(source, "Source tile cannot be null");
         Objects.requireNonNull(destination, "Destination tile cannot be null");
-        Objects.requireNonNull(traversed, "Traversed tiles cannot be null");
-
-        ChessApplication.logger.info("Traversed:\t" + traversed.toString());
-        for (final Tile tile : traversed) {
-            if (tile.equals(source) || tile.equals(destination))
-                continue;
-
-            if (tile.getPiece() != null)
-                return true;
-        }
-        return false;
+        return this.position.isLegal(source.square, destination.square);
     }
 
     /**
@@ -352,54 +238,6 @@ public final class Chessboard {
         this.write();
     }
 
-    /**
-     * Finds a specified {@link Player}'s {@link Bishop}
-     *
-     * @param color {@link PieceColor} to find
-     * @return location of all Bishops
-     */
-    private Tile[] findBishops(final PieceColor color) {
-        Objects.requireNonNull(color, "PieceColor cannot be null");
-
-        final Bishop[] p = switch (color) {
-            case Black -> this.black.getBishop();
-            case White -> this.white.getBishop();
-            default -> throw new IllegalStateException("Illegal PieceColor:\t" + color.name());
-        };
-        final List<Tile> pieces = new ArrayList<>();
-        for (final Bishop element : p) {
-            final Tile tile = element.getTile();
-            if (tile != null)
-                pieces.add(tile);
-        }
-
-        return pieces.toArray(new Tile[0]);
-    }
-
-    /**
-     * Finds a specified {@link Player}'s {@link Knight}
-     *
-     * @param color {@link PieceColor} to find
-     * @return location of all Knights
-     */
-    private Tile[] findKnights(final PieceColor color) {
-        Objects.requireNonNull(color, "PieceColor cannot be null");
-
-        final Knight[] p = switch (color) {
-            case Black -> this.black.getKnight();
-            case White -> this.white.getKnight();
-            default -> throw new IllegalStateException("Illegal PieceColor:\t" + color.name());
-        };
-        final List<Tile> pieces = new ArrayList<>();
-        for (final Knight element : p) {
-            final Tile tile = element.getTile();
-            if (tile != null)
-                pieces.add(tile);
-        }
-
-        return pieces.toArray(new Tile[0]);
-    }
-
     /**
      * Find a piece based off a move
      *
@@ -413,145 +251,36 @@ public final class Chessboard {
 
         final char first = search.charAt(0), second = search.charAt(1);
         final boolean bool = Character.isAlphabetic(first);
+        final long pieces = this.position.pieces(this.currentPlayer.color.code, type.code);
+        long found = 0L;
         if (bool && Character.isDigit(second))
             return this.getTile(search);
-        else if (bool) {
-            final int file = Character.toLowerCase(first) - 'a';
-            for (final Tile[] element : this.board) {
-                final Tile tile = element[file];
-                final Piece piece = tile.getPiece();
-                if (piece == null)
-                    continue;
-                if (piece.type == type)
-                    return tile;
-            }
-        } else if (Character.isDigit(first)) {
-            final int rank = first - '1';
-            for (int col = 0; col < this.board.length; ++col) {
-                final Tile tile = this.board[rank][col];
-                final Piece piece = tile.getPiece();
-                if (piece == null)
-                    continue;
-                if (piece.type == type)
-                    return tile;
-            }
-        }
-        throw new IllegalArgumentException("Illegal Search query:\t" + search);
-    }
-
-    /**
-     * Find all pieces of a certain {@link PieceColor}
-     *
-     * @param color {@link PieceColor} to find
-     * @return primitive type array of {@link Tile}
-     */
-    private Tile[] findPieces(final PieceColor color) {
-        Objects.requireNonNull(color, "PieceColor cannot be null");
-        ChessApplication.logger.info("Finding " + color.name() + " pieces");
-
-        final List<Tile> pieces = new ArrayList<>();
-        Tile tile;
-        switch (color) {
-            case White:
-                for (final Piece piece : this.white.pieces) {
-                    tile = piece.getTile();
-                    if (tile != null)
-                        pieces.add(tile);
-                }
-                break;
-            case Black:
-                for (final Piece piece : this.black.pieces) {
-                    tile = piece.getTile();
-                    if (tile != null)
-                        pieces.add(tile);
-                }
-                break;
-            default:
-                throw new IllegalStateException("Illegal PieceColor:\t" + color.name());
-        }
-
-        return pieces.toArray(new Tile[0]);
+        else if (bool)
+            found = pieces & Bitboards.FILE_A << (Character.toLowerCase(first) - 'a');
+        else if (Character.isDigit(first))
+            found = pieces & Bitboards.RANK_1 << 8 * (first - '1');
+
+        if (found == 0L)
+            throw new IllegalArgumentException("Illegal Search query:\t" + search);
+        return this.getTile(Bitboards.first(found));
     }
 
     /**
-     * Finds a specified {@link Player}'s {@link Queen}
+     * Get {@link #board}
      *
-     * @param color {@link PieceColor} to find
-     * @return location of all Queens
+     * @return {@link #board}
      */
-    private Tile[] findQueens(final PieceColor color) {
-        Objects.requireNonNull(color, "PieceColor cannot be null");
-
-        final Queen[] p = switch (color) {
-            case Black -> this.black.getQueen();
-            case White -> this.white.getQueen();
-            default -> throw new IllegalStateException("Illegal PieceColor:\t" + color.name());
-        };
-        final List<Tile> pieces = new ArrayList<>();
-        for (final Queen element : p) {
-            final Tile tile = element.getTile();
-            if (tile != null)
-                pieces.add(tile);
-        }
-
-        return pieces.toArray(new Tile[0]);
-    }
-
-    /**
-     * Finds a specified {@link Player}'s {@link Rook}
-     *
-     * @param color {@link PieceColor} to find
-     * @return location of all Rooks
-     */
-    private Tile[] findRooks(final PieceColor color) {
-        final Rook[] p = switch (color) {
-            case Black -> this.black.getRook();
-            case White -> this.white.getRook();
-            default -> throw new IllegalStateException("Illegal PieceColor:\t" + color.name());
-        };
-        final List<Tile> pieces = new ArrayList<>();
-        for (final Rook element : p) {
-            final Tile tile = element.getTile();
-            if (tile != null)
-                pieces.add(tile);
-        }
-
-        return pieces.toArray(new Tile[0]);
-    }
-
-    /**
-     * Find all {@link Piece} of a certain {@link PieceType} that can get to
-     * {@link #destination}
-     *
-     * @param type      {@link PieceType} to find
-     * @return locations of all valid {@link Piece}
-     */
-    private List<Tile> findValidTiles(final PieceType type) {
-        final List<Tile> temp = new ArrayList<>();
-
-        Tile[] tiles = switch (type) {
-            case King, Pawn -> new Tile[0];
-            case Queen -> this.findQueens(this.currentPlayer.color);
-            case Rook -> this.findRooks(this.currentPlayer.color);
-            case Knight -> this.findKnights(this.currentPlayer.color);
-            case Bishop -> this.findBishops(this.currentPlayer.color);
-        };
-
-        temp.add(this.source);
-        for (final Tile tile : tiles)
-            if (this.canMove(tile, this.destination))
-                temp.add(tile);
-
-        return temp;
+    public Tile[][] getBoard() {
+        return this.board;
     }
 
     /**
-     * Get {@link #board}
+     * Get the {@link net.chess.chess.position.Zobrist} key of the position on the board
      *
-     * @return {@link #board}
+     * @return key identifying the position
      */
-    public Tile[][] getBoard() {
-        return this.board;
+    public long getKey() {
+        return this.position.getKey();
     }
 
     /**
@@ -564,12 +293,24 @@ public final class Chessboard {
     }
 
     /**
-     * Get {@link #moves}
+     * Get the Standard Algebraic Notation of every move made.<br>
+     * The notation is built on demand from the {@link MoveCode}s kept by
+     * {@link #position}.
      *
-     * @return {@link #moves}
-     */
-    public List<Move> getMoves() {
-        return this.moves;
+     * @return notation of each move, in the order they were played
+     */
+    public List<String> getMoves() {
+        final Position replay = new Position(this.position);
+        while (replay.getPly() > 0)
+            replay.unmake();
+
+        final List<String> moves = new ArrayList<>(this.position.getPly());
+        for (int ply = 0; ply < this.position.getPly(); ++ply) {
+            final int move = this.position.getMove(ply);
+            moves.add(Notation.toSAN(replay, move));
+            replay.make(move);
+        }
+        return moves;
     }
 
     /**
@@ -581,6 +322,16 @@ public final class Chessboard {
         return this.nextPlayer;
     }
 
+    /**
+     * Get a copy of {@link #position}, such as to analyse it with an
+     * {@link net.chess.chess.engine.Engine}
+     *
+     * @return copy of {@link #position}, which the board does not follow
+     */
+    public Position getPosition() {
+        return new Position(this.position);
+    }
+
     /**
      * Get {@link Tile} in a position specified by a {@link String}
      *
@@ -595,6 +346,16 @@ public final class Chessboard {
         return this.board[row][col];
     }
 
+    /**
+     * Get {@link Tile} displaying a square of {@link #position}
+     *
+     * @param square square as described by {@link Square}
+     * @return {@link Tile} from {@link #board}
+     */
+    private Tile getTile(final int square) {
+        return this.board[7 - Square.rank(square)][Square.file(square)];
+    }
+
     /**
      * Get a {@link Tile} that is offset from an inputted Tile
      *
@@ -628,39 +389,18 @@ public final class Chessboard {
         if (!(this.source.getPiece() instanceof King king))
             return CastleState.Unattempted;
 
-        if (this.destination.rank != (king.color == PieceColor.White ? 7 : 0))
+        if (!this.position.isCastle(this.source.square, this.destination.square))
             return CastleState.Unattempted;
 
         Piece piece;
         switch (this.destination.file) {
             case 2:
-                if (!king.canQueensideCastle())
-                    return CastleState.Fail;
-
-                for (int i = 1; i < this.source.file; ++i) {
-                    if (this.board[this.source.rank][i].getPiece() != null)
-                        return CastleState.Fail;
-                    if (this.kingMoveIntoCheck(this.board[this.source.rank][i]))
-                        return CastleState.Fail;
-                }
-
                 piece = this.board[this.source.rank][0].getPiece();
-
                 this.board[this.source.rank][0].reset();
                 this.board[this.source.rank][3].updatePiece(piece);
                 king.setCastle(CastleState.Queenside);
                 return CastleState.Queenside;
             case 6:
-                if (!king.canKingsideCastle())
-                    return CastleState.Fail;
-
-                for (int i = this.source.file + 1; i < 7; ++i) {
-                    if (this.board[this.source.rank][i].getPiece() != null)
-                        return CastleState.Fail;
-                    if (this.kingMoveIntoCheck(this.board[this.source.rank][i]))
-                        return CastleState.Fail;
-                }
-
                 piece = this.board[this.source.rank][7].getPiece();
                 this.board[this.source.rank][7].reset();
                 this.board[this.source.rank][5].updatePiece(piece);
@@ -671,45 +411,11 @@ public final class Chessboard {
         }
     }
 
-    /**
-     * Determine if the {@link King} moves itself into a Check
-     *
-     * @param tile {@link Tile} to check
-     * @return true if the {@link King} moves itself into a check<br>
-     * false otherwise
-     */
-    private boolean kingMoveIntoCheck(final Tile tile) {
-        Objects.requireNonNull(tile, "Tile cannot be null");
-        if (!(this.source.getPiece() instanceof King))
-            return false;
-
-        final Piece sp = this.source.getPiece(), dp = this.destination.getPiece();
-        this.source.reset();
-        this.destination.updatePiece(sp);
-
-        for (final Tile enemy : this.findPieces(sp.color.opponent())) {
-            final Piece piece = enemy.getPiece();
-            if (!piece.isLegal(enemy, tile))
-                continue;
-
-            if (this.collide(enemy, tile, piece.getTileTraversed(this.board, enemy, tile)))
-                continue;
-
-            this.source.updatePiece(sp);
-            this.destination.updatePiece(dp);
-            return true;
-        }
-
-        this.source.updatePiece(sp);
-        this.destination.updatePiece(dp);
-        return false;
-    }
-
     /**
      * Load the initial position of the {@link Chessboard}
      */
     public void loadInitialPosition() {
-        if (this.moves.isEmpty())
+        if (this.position.getPly() == 0)
             return;
 
         this.index = 0;
@@ -717,12 +423,12 @@ public final class Chessboard {
     }
 
     /**
-     * Load last position in {@link Move#position()}
+     * Display the position after the last move
      */
     public void loadLastPosition() {
-        if (this.moves.isEmpty())
+        if (this.position.getPly() == 0)
             return;
-        this.index = this.moves.size() - 1;
+        this.index = this.position.getPly() - 1;
         this.loadPosition();
     }
 
@@ -739,7 +445,7 @@ public final class Chessboard {
             if (move == null)
                 throw new ParseException("Null Move", 0);
 
-            ChessApplication.logger.info("Parsing move:\t" + move);
+            ChessApplication.logger.fine(() -> "Parsing move:\t" + move);
             PromoteState promote = PromoteState.Fail;
             final Tile tile = this.getTile(PGNReader.getLast(move, "[a-h][1-8]"));
             this.destination = tile;
@@ -774,7 +480,8 @@ public final class Chessboard {
                     break;
                 case 'Q':
                     if (src == null)
-                        for (final Tile queen : this.findQueens(this.currentPlayer.color)) {
+                        for (long queens = this.position.pieces(this.currentPlayer.color.code, PieceType.Queen.code); queens != 0; queens &= queens - 1) {
+                            final Tile queen = this.getTile(Bitboards.first(queens));
                             if (!this.canMove(queen, tile))
                                 continue;
                             this.source = queen;
@@ -785,7 +492,8 @@ public final class Chessboard {
                     break;
                 case 'R':
                     if (src == null)
-                        for (final Tile rook : this.findRooks(this.currentPlayer.color)) {
+                        for (long rooks = this.position.pieces(this.currentPlayer.color.code, PieceType.Rook.code); rooks != 0; rooks &= rooks - 1) {
+                            final Tile rook = this.getTile(Bitboards.first(rooks));
                             if (!this.canMove(rook, tile))
                                 continue;
                             this.source = rook;
@@ -796,7 +504,8 @@ public final class Chessboard {
                     break;
                 case 'N':
                     if (src == null)
-                        for (final Tile knight : this.findKnights(this.currentPlayer.color)) {
+                        for (long knights = this.position.pieces(this.currentPlayer.color.code, PieceType.Knight.code); knights != 0; knights &= knights - 1) {
+                            final Tile knight = this.getTile(Bitboards.first(knights));
                             if (!this.canMove(knight, tile))
                                 continue;
                             this.source = knight;
@@ -807,7 +516,8 @@ public final class Chessboard {
                     break;
                 case 'B':
                     if (src == null)
-                        for (final Tile bishop : this.findBishops(this.currentPlayer.color)) {
+                        for (long bishops = this.position.pieces(this.currentPlayer.color.code, PieceType.Bishop.code); bishops != 0; bishops &= bishops - 1) {
+                            final Tile bishop = this.getTile(Bitboards.first(bishops));
                             if (!this.canMove(bishop, tile))
                                 continue;
                             this.source = bishop;
@@ -897,87 +607,47 @@ public final class Chessboard {
     }
 
     /**
-     * Increment {@link #index} and load the position in {@link Move#position()}
+     * Increment {@link #index} and display the position after that move
      */
     public void loadNextPosition() {
-        if (this.index + 1 >= this.moves.size())
+        if (this.index + 1 >= this.position.getPly())
             return;
         ++this.index;
         this.loadPosition();
     }
 
     /**
-     * Load position from {@link Move#position()} at {@link #index}
+     * Display the position after the move at {@link #index}.<br>
+     * The {@link Position} is unmade back to that move, drawn, then redone, so
+     * the game itself is left untouched.
      */
     private void loadPosition() {
-        ChessApplication.logger.info("Loading position:\t" + this.index + "\n");
-        final String position = this.moves.get(this.index).position();
-        String piece;
-        int col = 0, row = 0;
-        for (final String line : position.split("/"))
-            for (final char c : line.toCharArray()) {
-                switch (c) {
-                    case 'k':
-                        piece = String.valueOf(PieceType.King.black);
-                        break;
-                    case 'K':
-                        piece = String.valueOf(PieceType.King.white);
-                        break;
-                    case 'q':
-                        piece = String.valueOf(PieceType.Queen.black);
-                        break;
-                    case 'Q':
-                        piece = String.valueOf(PieceType.Queen.white);
-                        break;
-                    case 'r':
-                        piece = String.valueOf(PieceType.Rook.black);
-                        break;
-                    case 'R':
-                        piece = String.valueOf(PieceType.Rook.white);
-                        break;
-                    case 'n':
-                        piece = String.valueOf(PieceType.Knight.black);
-                        break;
-                    case 'N':
-                        piece = String.valueOf(PieceType.Knight.white);
-                        break;
-                    case 'b':
-                        piece = String.valueOf(PieceType.Bishop.black);
-                        break;
-                    case 'B':
-                        piece = String.valueOf(PieceType.Bishop.white);
-                        break;
-                    case 'p':
-                        piece = String.valueOf(PieceType.Pawn.black);
-                        break;
-                    case 'P':
-                        piece = String.valueOf(PieceType.Pawn.white);
-                        break;
-                    default:
-                        piece = "";
-                        for (int i = '0'; i < c; ++i) {
-                            this.board[row][col].setTextFill(null);
-                            this.board[row][col].setText(piece);
-                            if (++col == 8) {
-                                ++row;
-                                col = 0;
-                            }
-                        }
-                        continue;
-                }
-
-                this.board[row][col]
-                        .setTextFill(Character.isLowerCase(c) ? PieceColor.Black.color : PieceColor.White.color);
-                this.board[row][col].setText(piece);
-                if (++col == 8) {
-                    ++row;
-                    col = 0;
-                }
+        ChessApplication.logger.fine(() -> "Loading position:\t" + this.index + "\n");
+        final int ply = this.position.getPly();
+        while (this.position.getPly() > this.index + 1)
+            this.position.unmake();
+
+        for (int square = 0; square < 64; ++square) {
+            final Tile tile = this.getTile(square);
+            final int piece = this.position.get(square);
+            if (piece == PieceCode.NONE) {
+                tile.setTextFill(null);
+                tile.setText("");
+                continue;
             }
+
+            final PieceType type = PieceType.of(PieceCode.type(piece));
+            final boolean black = PieceCode.color(piece) == PieceCode.BLACK;
+            tile.setTextFill(black ? PieceColor.Black.color : PieceColor.White.color);
+            tile.setText(String.valueOf(black ? type.black : type.white));
+        }
+
+        while (this.position.getPly() < ply)
+            this.position.redo();
     }
 
     /**
-     * Decrement {@link #index} and load the position in {@link Move#position()}
+     * Decrement {@link #index} and display the position after that move
      */
     public void loadPreviousPosition() {
         if (this.index - 1 < 0)
@@ -996,31 +666,24 @@ public final class Chessboard {
         if (src_piece == null)
             return;
 
-        ChessApplication.logger.info(String.format("Moving %s from %s to %s", src_piece.toFigure(), this.source.toString(),
+        ChessApplication.logger.fine(() -> String.format("Moving %s from %s to %s", src_piece.toFigure(), this.source.toString(),
                 this.destination.toString()));
 
         if (this.source.equals(this.destination)) {
-            ChessApplication.logger.info("No movement detected.");
+            ChessApplication.logger.fine("No movement detected.");
             return;
         }
 
         final boolean isAlly = this.source.getPiece().isAlly(this.destination.getPiece());
-        ChessApplication.logger.info(isAlly ? "Attempting to capture Ally" : "Capturing enemy or moving to empty tile");
+        ChessApplication.logger.fine(() -> isAlly ? "Attempting to capture Ally" : "Capturing enemy or moving to empty tile");
         if (isAlly)
             return;
 
-        final boolean legal = src_piece.isLegal(this.source, this.destination);
-        ChessApplication.logger.info(legal ? "Move is legal" : "Move is not legal");
+        final boolean legal = this.canMove(this.source, this.destination);
+        ChessApplication.logger.fine(() -> legal ? "Move is legal" : "Move is not legal");
         if (!legal)
             return;
 
-        final boolean collide = this.collide(this.source, this.destination,
-                src_piece.getTileTraversed(this.board, this.source, this.destination));
-        ChessApplication.logger.info(
-                src_piece.toFigure() + (collide ? " collided on its journey" : " did not collide on its journey"));
-        if (collide)
-            return;
-
         King ally_king, enemy_king;
         enemy_king = switch (this.currentPlayer.color) {
             case Black -> {
@@ -1035,59 +698,26 @@ public final class Chessboard {
         };
 
         if (src_piece instanceof King) {
-            final boolean kingMoveIntoCheck = this.kingMoveIntoCheck(this.destination);
-            ChessApplication.logger.info(kingMoveIntoCheck ? "King moved into Check" : "King did not move into Check");
-            if (kingMoveIntoCheck)
-                return;
-
             final CastleState castle = this.kingCastled();
-            ChessApplication.logger.info("CastleState:\t" + castle.name());
-            switch (castle) {
-                case Fail:
-                    return;
-                case Kingside:
-                    break;
-                case Queenside:
-                    break;
-                case Unattempted:
-                    break;
-                default:
-                    throw new IllegalStateException("Illegal CastleState:\t" + castle.name());
-            }
-        } else {
-            final boolean protect = this.moveProtectKing(ally_king, this.source, this.destination);
-            ChessApplication.logger.info(protect ? "Move protects the King" : "Move does not protect the King");
-            if (!protect)
-                return;
+            ChessApplication.logger.fine(() -> "CastleState:\t" + castle.name());
         }
 
-        boolean attack = this.destination.getPiece() != null;
         if (src_piece instanceof Pawn) {
-            final boolean diagonal = ((Pawn) src_piece).getDiagonal();
-            switch (src_piece.color) {
-                case Black:
-                    if (diagonal && !attack) {
-                        attack = this.destination.getUp().getPiece() != null;
-                        this.destination.getUp().reset();
-                    }
-
-                    if (this.destination.rank == 7)
-                        promote = this.mode == Mode.Debug ? this.promote(promote) : this.promote();
-                    break;
-                case White:
-                    if (diagonal && !attack) {
-                        attack = this.destination.getDown().getPiece() != null;
-                        this.destination.getDown().reset();
-                    }
-
-                    if (this.destination.rank == 0)
-                        promote = this.mode == Mode.Debug ? this.promote(promote) : this.promote();
-                    break;
-                default:
-                    break;
+            if (this.position.isEnPassant(this.source.square, this.destination.square)) {
+                final Tile captured = switch (src_piece.color) {
+                    case Black -> this.destination.getUp();
+                    case White -> this.destination.getDown();
+                };
+                captured.reset();
             }
+
+            if (this.destination.rank == 0 || this.destination.rank == 7)
+                promote = this.mode == Mode.Debug || this.currentPlayer instanceof Computer ? this.promote(promote)
+                        : this.promote();
         }
 
+        final int move = this.position.encode(this.source.square, this.destination.square, promote.code);
+        this.position.make(move);
         this.advancePiece();
 
         this.updateCastle(ally_king);
@@ -1096,7 +726,7 @@ public final class Chessboard {
         this.updateCheckMate(enemy_king);
         this.updateStalemate(enemy_king);
 
-        this.appendMove(attack, promote);
+        this.appendMove(move);
         this.updatePlayers();
 
         switch (enemy_king.getCheckState()) {
@@ -1123,52 +753,6 @@ public final class Chessboard {
         }
     }
 
-    /**
-     * Determine if a move will protect the {@link King} from check.<br>
-     * This method assumes that movement from source to destination is
-     * {@link Piece#isLegal(Tile, Tile)} and does not
-     * {@link #collide(Tile, Tile, List)}
-     *
-     * @param king        The {@link King} that needs protection
-     * @param source      The {@link Tile} a piece is moving from
-     * @param destination The {@link Tile} a piece is moving to
-     * @return {@code true} if the move protects the {@link King}<br>
-     * {@code false} otherwise
-     */
-    private boolean moveProtectKing(final King king, final Tile source, final Tile destination) {
-        Objects.requireNonNull(king, "King cannot be null");
-        Objects.requireNonNull(source, "Source tile cannot be null");
-        Objects.requireNonNull(destination, "Destination tile cannot be null");
-
-        final Piece sp = source.getPiece(), dp = destination.getPiece();
-        source.reset();
-        destination.updatePiece(sp);
-        if (dp != null)
-            dp.setTile(null);
-
-        final Tile king_tile = sp instanceof King ? destination : king.getTile();
-
-        for (final Tile enemy : this.findPieces(king.color.opponent())) {
-            final Piece piece = enemy.getPiece();
-
-            if (!piece.isLegal(enemy, king_tile)
-                    || this.collide(enemy, king_tile, piece.getTileTraversed(this.board, enemy, king_tile)))
-                continue;
-
-            source.updatePiece(sp);
-            destination.updatePiece(dp);
-            if (dp != null)
-                dp.setTile(destination);
-            return false;
-        }
-
-        source.updatePiece(sp);
-        destination.updatePiece(dp);
-        if (dp != null)
-            dp.setTile(destination);
-        return true;
-    }
-
     /**
      * Place the {@link Piece} on {@link #board}
      */
@@ -1203,6 +787,57 @@ public final class Chessboard {
             }
     }
 
+    /**
+     * Let {@link #currentPlayer} move if it is a {@link Computer}.<br>
+     * The search runs on a daemon thread with a copy of {@link #position}, so
+     * the JavaFX Application Thread keeps drawing and handling events; the move
+     * found is played back on it through {@link Platform#runLater(Runnable)}.
+     * Moves of the user are ignored until then.
+     */
+    private void playComputer() {
+        if (this.search != null || this.mode != Mode.Normal && this.mode != Mode.Funny)
+            return;
+        if (!(this.currentPlayer instanceof Computer computer))
+            return;
+
+        final Position copy = new Position(this.position);
+        // Not a virtual thread, as a pondering search may hold every carrier until this one stops it
+        this.search = Thread.ofPlatform().daemon().name("chess-computer").unstarted(() -> {
+            int move = MoveCode.NONE;
+            try {
+                move = computer.think(copy);
+            } catch (final RuntimeException re) {
+                ChessApplication.logger.log(Level.WARNING, "Illegal computer search:\t" + re, re);
+            }
+            final Thread self = Thread.currentThread();
+            final int found = move;
+            Platform.runLater(() -> this.playComputer(self, found));
+        });
+        this.search.start();
+    }
+
+    /**
+     * Play the move a {@link Computer} found, on the JavaFX Application Thread,
+     * then let the next player search if it is a {@link Computer} too
+     *
+     * @param search thread that searched
+     * @param move   {@link MoveCode} found, {@link MoveCode#NONE} if the search failed
+     */
+    private void playComputer(final Thread search, final int move) {
+        // The search was stopped by a reset, which already forgot it
+        if (search != this.search)
+            return;
+        this.search = null;
+        if (move == MoveCode.NONE || this.isGameOver())
+            return;
+        this.source = this.getTile(MoveCode.from(move));
+        this.destination = this.getTile(MoveCode.to(move));
+        this.movePiece(PromoteState.of(MoveCode.promotion(move)));
+        this.resetTiles();
+        if (!this.isGameOver())
+            this.playComputer();
+    }
+
     /**
      * Promote a pawn
      *
@@ -1225,7 +860,7 @@ public final class Chessboard {
             case '♗' -> PromoteState.Bishop;
             default -> PromoteState.Queen;
         };
-        ChessApplication.logger.info("Promoted Pawn to " + state.name());
+        ChessApplication.logger.fine(() -> "Promoted Pawn to " + state.name());
         return this.promote(state);
     }
 
@@ -1233,16 +868,16 @@ public final class Chessboard {
         final int file = ((Pawn) this.source.getPiece()).starting_File;
         switch (state) {
             case Queen:
-                this.currentPlayer.pieces[file] = new Queen(this.currentPlayer.color);
+                this.currentPlayer.promote(file, new Queen(this.currentPlayer.color));
                 break;
             case Knight:
-                this.currentPlayer.pieces[file] = new Knight(this.currentPlayer.color);
+                this.currentPlayer.promote(file, new Knight(this.currentPlayer.color));
                 break;
             case Rook:
-                this.currentPlayer.pieces[file] = new Rook(this.currentPlayer.color);
+                this.currentPlayer.promote(file, new Rook(this.currentPlayer.color));
                 break;
             case Bishop:
-                this.currentPlayer.pieces[file] = new Bishop(this.currentPlayer.color);
+                this.currentPlayer.promote(file, new Bishop(this.currentPlayer.color));
                 break;
             case Fail:
                 break;
@@ -1266,16 +901,18 @@ public final class Chessboard {
      * Reset the board and all attributes.
      */
     public void reset() {
+        this.stopComputer();
         this.resetBoard();
         this.resetTiles();
         this.placePieces();
+        this.position.load(Position.START);
         this.white.reset();
         this.black.reset();
-        this.moves.clear();
         this.index = 0;
         this.currentPlayer = this.white;
         this.nextPlayer = this.black;
         ChessApplication.logger.info("Reset Chess board\n\n");
+        this.playComputer();
     }
 
     /**
@@ -1292,7 +929,7 @@ public final class Chessboard {
      * Set {@link #source} and {@link #destination} to null
      */
     public void resetTiles() {
-        ChessApplication.logger.info("Resetting Tiles\n");
+        ChessApplication.logger.fine("Resetting Tiles");
         this.source = null;
         this.destination = null;
     }
@@ -1332,6 +969,29 @@ public final class Chessboard {
         this.result = result;
     }
 
+    /**
+     * Stop the search of a {@link Computer}, if any, and wait for it to end.<br>
+     * The move it finds is never played.
+     */
+    private void stopComputer() {
+        if (this.search == null)
+            return;
+        // Only the player to move searches
+        if (this.currentPlayer instanceof Computer computer)
+            computer.stop();
+
+        boolean interrupted = false;
+        while (this.search.isAlive())
+            try {
+                this.search.join();
+            } catch (final InterruptedException ie) {
+                interrupted = true;
+            }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        this.search = null;
+    }
+
     /**
      * This method is called whenever a {@link Tile} is clicked.
      */
@@ -1345,6 +1005,12 @@ public final class Chessboard {
                 throw new IllegalStateException("Illegal Mode:\t" + this.mode);
         }
 
+        // The board waits for the move of the computer
+        if (this.search != null) {
+            this.resetTiles();
+            return;
+        }
+
         if (this.source == null)
             return;
 
@@ -1358,31 +1024,12 @@ public final class Chessboard {
 
         this.movePiece(PromoteState.Fail);
         this.resetTiles();
+        this.playComputer();
     }
 
     @Override
     public String toString() {
-        StringBuilder out = new StringBuilder();
-        int count;
-        for (final Tile[] row : this.board) {
-            count = 0;
-            for (final Tile tile : row) {
-                final Piece piece = tile.getPiece();
-                if (piece == null)
-                    ++count;
-                else {
-                    if (count != 0)
-                        out.append(count);
-                    out.append(piece.toFEN());
-                    count = 0;
-                }
-            }
-            if (count != 0)
-                out.append(count);
-            out.append("/");
-        }
-
-        return out.substring(0, out.length() - 1);
+        return this.position.placement();
     }
 
     /**
@@ -1392,7 +1039,7 @@ public final class Chessboard {
      */
     private void updateCastle(final King king) {
         Objects.requireNonNull(king, "King cannot be null");
-        ChessApplication.logger.info(String.format("Updating %s King.king and King.queen", king.color.name()));
+        ChessApplication.logger.fine(() -> String.format("Updating %s King.king and King.queen", king.color.name()));
         final Piece piece = this.destination.getPiece();
 
         if (piece instanceof King) {
@@ -1415,79 +1062,32 @@ public final class Chessboard {
     }
 
     /**
-     * Update King's check state to {@link CheckState#Check} if required
+     * Update King's check state to {@link CheckState#Check} if required.<br>
+     * This method assumes it is the King's turn to move in {@link #position}
      *
      * @param king {@link King}
      */
     private void updateCheck(final King king) {
         Objects.requireNonNull(king, "King cannot be null");
-        ChessApplication.logger.info(String.format("Updating %s King.check", king.color.name()));
-
-        final Tile king_tile = king.getTile();
+        ChessApplication.logger.fine(() -> String.format("Updating %s King.check", king.color.name()));
 
-        for (final Tile enemy : this.findPieces(king.color.opponent())) {
-            final Piece piece = enemy.getPiece();
-
-            if (!piece.isLegal(enemy, king_tile))
-                continue;
-
-            if (this.collide(enemy, king_tile, piece.getTileTraversed(this.board, enemy, king_tile)))
-                continue;
-
-            king.setCheck(CheckState.Check);
-            return;
-        }
-
-        king.setCheck(CheckState.Fail);
+        king.setCheck(this.position.inCheck() ? CheckState.Check : CheckState.Fail);
     }
 
     /**
-     * Update King's check state to {@link CheckState#Mate} if required
+     * Update King's check state to {@link CheckState#Mate} if required.<br>
+     * This method assumes it is the King's turn to move in {@link #position}
      *
      * @param king {@link King}
      */
     private void updateCheckMate(final King king) {
         Objects.requireNonNull(king, "King cannot be null");
-        ChessApplication.logger.info("Updating CheckState for " + king.color + " King to CheckState.Mate");
+        ChessApplication.logger.fine(() -> "Updating CheckState for " + king.color + " King to CheckState.Mate");
         if (king.getCheckState() == CheckState.Fail)
             return;
 
-        // Find all attacking pieces and their path to the King
-        final Tile king_tile = king.getTile();
-        List<Tile> traverse = new ArrayList<>();
-        for (final Tile enemy : this.findPieces(king.color.opponent())) {
-            final Piece piece = enemy.getPiece();
-            if (!piece.isLegal(enemy, king_tile))
-                continue;
-
-            List<Tile> traversed = piece.getTileTraversed(this.board, enemy, king_tile);
-            if (this.collide(enemy, king_tile, traversed))
-                continue;
-
-            traverse.addAll(traversed);
-        }
-
-        // Determine if any ally piece can protect the king
-        for (final Tile ally : this.findPieces(king.color)) {
-            final Piece piece = ally.getPiece();
-            for (final Tile protector: traverse) {
-                if (!this.canMove(ally, protector))
-                    continue;
-
-                ChessApplication.logger.info("Found defending piece:\t" + piece.toFigure());
-                ChessApplication.logger.info(String.format("Move from %s to %s", ally, protector));
-                return;
-            }
-        }
-
-        // Determine if the King can move itself out of check
-        for (final Tile tile : king.getSurround(this.board)) {
-            if (king.isAlly(tile.getPiece()))
-                continue;
-
-            if (this.moveProtectKing(king, king_tile, tile))
-                return;
-        }
+        if (this.position.hasLegalMove())
+            return;
 
         king.setCheck(CheckState.Mate);
     }
@@ -1499,7 +1099,7 @@ public final class Chessboard {
      */
     public void updateDestination(final Tile tile) {
         Objects.requireNonNull(tile, "New destination tile cannot be null");
-        ChessApplication.logger.info("Updating destination:\t" + tile + "\n\n");
+        ChessApplication.logger.fine(() -> "Updating destination:\t" + tile + "\n\n");
 
         if (this.destination == null)
             this.destination = tile;
@@ -1521,33 +1121,25 @@ public final class Chessboard {
      */
     public void updateSource(final Tile tile) {
         Objects.requireNonNull(tile, "New source tile cannot be null");
-        ChessApplication.logger.info("Updating source:\t" + tile.toString());
+        ChessApplication.logger.fine(() -> "Updating source:\t" + tile.toString());
 
         if (this.source == null)
             this.source = tile;
     }
 
     /**
-     * Update King's check state to {@link CheckState#Stale} if necessary.
+     * Update King's check state to {@link CheckState#Stale} if necessary.<br>
+     * This method assumes it is the King's turn to move in {@link #position}
      *
      * @param king {@link King} to update.
      */
     public void updateStalemate(final King king) {
-        ChessApplication.logger.info("Updating " + king.color.name() + " King.check to CheckState.Stale");
+        ChessApplication.logger.fine(() -> "Updating " + king.color.name() + " King.check to CheckState.Stale");
         if (king.getCheckState() != CheckState.Fail)
             return;
 
-        final Tile[] pieces = this.findPieces(king.color);
-        for (final Tile[] row : this.board) {
-            for (final Tile tile : row) {
-                for (Tile piece : pieces) {
-                    if (this.canMove(piece, tile)) {
-                        ChessApplication.logger.info("Move from " + piece + " to " + tile);
-                        return;
-                    }
-                }
-            }
-        }
+        if (this.position.hasLegalMove())
+            return;
 
         king.setCheck(CheckState.Stale);
     }
@@ -9,6 +9,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import net.chess.chess.ChessApplication;
 import net.chess.chess.piece.Piece;
+import net.chess.chess.position.Square;
 
 import static net.chess.chess.ChessApplication.TILE_SIZE;
 
@@ -55,6 +56,11 @@ public final class Tile extends Button {
 	 */
 	public final int rank;
 
+	/**
+	 * Index of this in {@link net.chess.chess.position.Position}, as described by {@link Square}
+	 */
+	public final int square;
+
 	/**
 	 * {@link Tile} located directly up from this
 	 */
@@ -76,6 +82,7 @@ public final class Tile extends Button {
 		if (rank < 0 || rank > 7)
 			throw new IndexOutOfBoundsException("Illegal rank: " + rank);
 		this.rank = rank;
+		this.square = Square.of(7 - rank, file);
 
 		this.color = this.rank % 2 == 0 && this.file % 2 == 0 || this.rank % 2 == 1 && this.file % 2 == 1
 				? TileColor.Light
@@ -0,0 +1,55 @@
+package net.chess.chess.engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import net.chess.chess.perft.ReferencePosition;
+import net.chess.chess.position.Position;
+
+/**
+ * Node count benchmark of the {@link Engine}.<br>
+ * Every {@link ReferencePosition} is searched to a fixed depth on a single
+ * thread. The total node count shows how well the search prunes, so it
+ * should drop when move ordering or pruning improves and only change when
+ * the search does; the nodes per second measure the speed of the machine.<br>
+ * Comparing runs with and without a {@link Pruning} technique measures what
+ * it saves.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Bench {
+    /**
+     * Depth searched when none is given
+     */
+    private static final int default_depth = 6;
+
+    /**
+     * Constructor
+     */
+    private Bench() {
+    }
+
+    /**
+     * Run the benchmark from the command line
+     *
+     * @param args optional depth, then optional {@link Pruning} techniques
+     *             parsed by {@link Pruning#parse(String)}, all by default
+     */
+    public static void main(final String[] args) {
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : default_depth;
+        final Set<Pruning> pruning = args.length > 1 ? Pruning.parse(args[1]) : EnumSet.allOf(Pruning.class);
+        long nodes = 0L, elapsed = 0L;
+        for (final ReferencePosition reference : ReferencePosition.values())
+            // A fresh engine per position, so the count does not depend on the order
+            try (final Engine engine = new Engine(1, Engine.DEFAULT_HASH)) {
+                engine.setPruning(pruning);
+                final SearchResult result = engine.search(new Position(reference.fen), Limits.depth(depth));
+                System.out.println(reference + ":\t" + result);
+                nodes += result.nodes;
+                elapsed += result.elapsed;
+            }
+        System.out.printf("Nodes:\t%d%nTime:\t%.3f s%nNodes/s:\t%.0f%n", nodes, elapsed / 1e9,
+                nodes * 1e9 / Math.max(elapsed, 1L));
+    }
+}
@@ -0,0 +1,412 @@
+package net.chess.chess.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import net.chess.chess.logging.ChessLogger;
+import net.chess.chess.position.MoveCode;
+import net.chess.chess.position.Position;
+
+/**
+ * Search engine running one {@link Search} per thread with the Lazy SMP
+ * design.<br>
+ * Every thread searches the same root and shares one
+ * {@link TranspositionTable}; half of the helpers search a ply deeper than the
+ * main search, so they fill the table ahead of it. Only the main search
+ * reports and decides the move, and the helpers are stopped once it is done.
+ * A helper that fails is logged and ends the search, which returns the move
+ * the main search found so far.
+ * With a single thread the main search runs alone on the calling thread, so
+ * its result is deterministic.<br>
+ * Between its moves the engine may ponder: it searches the position after the
+ * expected reply on a background virtual thread, filling the table, then on a
+ * ponder hit the search goes on with real limits, counting the work already
+ * done, and on a miss it is dropped.<br>
+ * For analysis the engine may rank several moves at once with
+ * {@link #analyse(Position, Limits, int, Consumer)}; only the main search
+ * reports several lines, the helpers keep searching the best one.<br>
+ * An engine must not run two searches at once, pondering included.<br>
+ * Read more <a href="https://www.chessprogramming.org/Lazy_SMP">here</a>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Engine implements AutoCloseable {
+    /**
+     * Size in bytes of the {@link TranspositionTable} when none is given
+     */
+    public static final long DEFAULT_HASH = 16L << 20;
+
+    /**
+     * Helper {@link Search} of each thread but the calling one
+     */
+    private final Search[] helpers;
+
+    /**
+     * Lock ending a search, so {@link #stop()} cannot reach the next one
+     */
+    private final Object lock;
+
+    /**
+     * {@link Search} on the calling thread, whose result is returned
+     */
+    private final Search main;
+
+    /**
+     * Search pondering on a virtual thread, or {@code null}
+     */
+    private FutureTask<SearchResult> ponder;
+
+    /**
+     * Threads running {@link #helpers}, or {@code null} with a single thread
+     */
+    private final ExecutorService pool;
+
+    /**
+     * Determine if a search is running
+     */
+    private volatile boolean running;
+
+    /**
+     * {@link TranspositionTable} shared by every {@link Search}
+     */
+    private final TranspositionTable table;
+
+    /**
+     * Constructor
+     *
+     * @param threads number of threads searching
+     * @param hash    size in bytes of the {@link TranspositionTable}
+     * @throws IllegalArgumentException if there is no thread or the table cannot be made
+     */
+    public Engine(final int threads, final long hash) throws IllegalArgumentException {
+        if (threads < 1)
+            throw new IllegalArgumentException("Illegal thread count:\t" + threads);
+        this.table = new TranspositionTable(hash);
+        this.lock = new Object();
+        this.main = new Search(this.table);
+        this.helpers = new Search[threads - 1];
+        for (int i = 0; i < this.helpers.length; ++i)
+            this.helpers[i] = new Search(this.table, (i + 1) % 2);
+        this.pool = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, runnable -> {
+            final Thread thread = new Thread(runnable, "chess-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Analyse a position, ranking its best moves
+     *
+     * @param position {@link Position} to search, left untouched
+     * @param limits   {@link Limits} of the main search
+     * @param lines    number of moves to rank
+     * @param info     called with the {@link SearchResult} of each line of each iteration, or {@code null}
+     * @return {@link SearchResult} of each line of the deepest iteration the main search completed, the best first
+     * @throws IllegalArgumentException if there is no line to search
+     */
+    public List<SearchResult> analyse(final Position position, final Limits limits, final int lines,
+            final Consumer<SearchResult> info) throws IllegalArgumentException {
+        this.main.setMultiPV(lines);
+        try {
+            this.search(position, limits, info);
+        } finally {
+            this.main.setMultiPV(1);
+        }
+        final List<SearchResult> variations = new ArrayList<>(this.main.getVariations().size());
+        for (final SearchResult variation : this.main.getVariations())
+            variations.add(this.total(variation));
+        return variations;
+    }
+
+    /**
+     * Wait for {@link #ponder} to end, then forget it.<br>
+     * The wait is not cut short by an interrupt, which is kept for the caller,
+     * so the engine is never left searching. A failed ponder search is logged
+     * rather than thrown, as the caller may search again.
+     *
+     * @return {@link SearchResult} of {@link #ponder}, or {@code null} if it failed
+     */
+    private SearchResult await() {
+        boolean interrupted = false;
+        try {
+            while (true)
+                try {
+                    return this.ponder.get();
+                } catch (final InterruptedException ie) {
+                    interrupted = true;
+                }
+        } catch (final ExecutionException ee) {
+            ChessLogger.logger.log(Level.WARNING, "Illegal ponder search:\t" + ee.getCause(), ee.getCause());
+            return null;
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+            this.ponder = null;
+            this.main.reset();
+        }
+    }
+
+    /**
+     * Stop pondering and the threads of {@link #pool}
+     */
+    @Override
+    public void close() {
+        if (this.ponder != null)
+            this.ponderMiss();
+        if (this.pool != null)
+            this.pool.shutdownNow();
+    }
+
+    /**
+     * End the search running, once every thread is done.<br>
+     * A stop that lands after the main search ended, from {@link #stop()} or
+     * a failing helper, is forgotten with it, so it cannot cut off the next
+     * search.
+     */
+    private void end() {
+        synchronized (this.lock) {
+            this.running = false;
+            this.main.reset();
+        }
+    }
+
+    /**
+     * Get the {@link Pruning} techniques every {@link Search} uses
+     *
+     * @return {@link Pruning} techniques, unmodifiable
+     */
+    public Set<Pruning> getPruning() {
+        return this.main.getPruning();
+    }
+
+    /**
+     * Get {@link #table}
+     *
+     * @return {@link #table}
+     */
+    public TranspositionTable getTable() {
+        return this.table;
+    }
+
+    /**
+     * Get the number of threads searching
+     *
+     * @return number of threads, the calling one included
+     */
+    public int getThreads() {
+        return this.helpers.length + 1;
+    }
+
+    /**
+     * Determine if the engine is pondering
+     *
+     * @return {@code true} if {@link #ponder} runs or awaits its hit or miss<br>
+     * {@code false} otherwise
+     */
+    public boolean isPondering() {
+        return this.ponder != null;
+    }
+
+    /**
+     * Analyse a position from the command line, printing each iteration.<br>
+     * Leading options are {@code --depth d} to stop at depth {@code d},
+     * {@code --nodes n} to stop after the main search visits {@code n} nodes,
+     * {@code --hash m} for a {@link TranspositionTable} of {@code m} megabytes,
+     * {@code --pruning p} for the {@link Pruning} techniques parsed from
+     * {@code p}, {@code --threads t} to search on {@code t} threads,
+     * {@code --time ms} with {@code --inc ms} to play on a clock with that
+     * much time left and that increment, and {@code --multipv n} to rank the
+     * {@code n} best moves. The rest is the
+     * Forsyth-Edwards Notation of the position, the initial position when
+     * omitted.
+     *
+     * @param args optional options, then optional Forsyth-Edwards Notation
+     */
+    public static void main(final String[] args) {
+        int first = 0, depth = 8, lines = 1, threads = 1;
+        long hash = DEFAULT_HASH, increment = 0L, nodes = Long.MAX_VALUE, time = Long.MAX_VALUE;
+        Set<Pruning> pruning = EnumSet.allOf(Pruning.class);
+        for (; first + 1 < args.length && args[first].startsWith("--"); first += 2)
+            switch (args[first]) {
+                case "--depth" -> depth = Integer.parseInt(args[first + 1]);
+                case "--hash" -> hash = Long.parseLong(args[first + 1]) << 20;
+                case "--inc" -> increment = Long.parseLong(args[first + 1]);
+                case "--multipv" -> lines = Integer.parseInt(args[first + 1]);
+                case "--nodes" -> nodes = Long.parseLong(args[first + 1]);
+                case "--pruning" -> pruning = Pruning.parse(args[first + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[first + 1]);
+                case "--time" -> time = Long.parseLong(args[first + 1]);
+                default -> throw new IllegalArgumentException("Illegal option:\t" + args[first]);
+            }
+
+        final Position position = args.length > first
+                ? new Position(String.join(" ", Arrays.copyOfRange(args, first, args.length)))
+                : new Position();
+        try (final Engine engine = new Engine(threads, hash)) {
+            engine.setPruning(pruning);
+            final List<SearchResult> variations = engine.analyse(position, new Limits(depth, nodes, time, increment),
+                    lines, System.out::println);
+            final int move = variations.get(0).getMove();
+            System.out.println("bestmove " + (move == MoveCode.NONE ? "0000" : MoveCode.toString(move)));
+        }
+    }
+
+    /**
+     * Start pondering a position on a virtual thread, until
+     * {@link #ponderHit(Limits)} or {@link #ponderMiss()}
+     *
+     * @param position {@link Position} after the expected reply, copied
+     * @throws IllegalStateException if the engine is already searching
+     */
+    public void ponder(final Position position) throws IllegalStateException {
+        Objects.requireNonNull(position, "Position cannot be null");
+        if (this.running || this.ponder != null)
+            throw new IllegalStateException("Illegal ponder:\tthe engine is searching");
+        final Position copy = new Position(position);
+        // Pondering runs until a hit or miss, so only the deepest iteration there is bounds it
+        this.ponder = new FutureTask<>(() -> this.search(copy, Limits.depth(Search.MAX_PLY)));
+        Thread.ofVirtual().name("chess-ponder").start(this.ponder);
+    }
+
+    /**
+     * Turn pondering into a real search, as the expected reply was played
+     *
+     * @param limits {@link Limits} of the main search, counted from the start of pondering
+     * @return {@link SearchResult} of the deepest iteration the main search completed, or {@code null} if pondering
+     * failed, in which case the position should be searched again
+     * @throws IllegalStateException if the engine is not pondering
+     */
+    public SearchResult ponderHit(final Limits limits) throws IllegalStateException {
+        if (this.ponder == null)
+            throw new IllegalStateException("Illegal ponder hit:\tthe engine is not pondering");
+        this.main.ponderhit(limits);
+        return this.await();
+    }
+
+    /**
+     * Drop pondering, as another reply was played, and wait for it to end
+     *
+     * @throws IllegalStateException if the engine is not pondering
+     */
+    public void ponderMiss() throws IllegalStateException {
+        if (this.ponder == null)
+            throw new IllegalStateException("Illegal ponder miss:\tthe engine is not pondering");
+        this.main.stop();
+        this.await();
+    }
+
+    /**
+     * Search a position
+     *
+     * @param position {@link Position} to search, left untouched
+     * @param limits   {@link Limits} of the main search
+     * @return {@link SearchResult} of the deepest iteration the main search completed
+     */
+    public SearchResult search(final Position position, final Limits limits) {
+        return this.search(position, limits, null);
+    }
+
+    /**
+     * Search a position, reporting each iteration the main search completes.<br>
+     * The node counts reported are those of every thread.
+     *
+     * @param position {@link Position} to search, left untouched
+     * @param limits   {@link Limits} of the main search
+     * @param info     called with the {@link SearchResult} of each iteration, or {@code null}
+     * @return {@link SearchResult} of the deepest iteration the main search completed
+     */
+    public SearchResult search(final Position position, final Limits limits, final Consumer<SearchResult> info) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        Objects.requireNonNull(limits, "Limits cannot be null");
+        this.table.newSearch();
+        this.running = true;
+        if (this.pool == null)
+            try {
+                return this.main.search(position, limits, info);
+            } finally {
+                this.end();
+            }
+
+        final List<Future<SearchResult>> futures = new ArrayList<>(this.helpers.length);
+        // Helpers run until stopped once the main search is done
+        final Limits unlimited = Limits.depth(Search.MAX_PLY);
+        for (final Search helper : this.helpers)
+            futures.add(this.pool.submit(() -> {
+                try {
+                    return helper.search(position, unlimited);
+                } catch (final RuntimeException re) {
+                    this.main.stop();
+                    throw re;
+                }
+            }));
+
+        try {
+            final SearchResult result = this.main.search(position, limits,
+                    info == null ? null : iteration -> info.accept(this.total(iteration)));
+            return this.total(result);
+        } finally {
+            for (final Search helper : this.helpers)
+                helper.stop();
+            for (final Future<SearchResult> future : futures)
+                try {
+                    future.get();
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                } catch (final ExecutionException ee) {
+                    ChessLogger.logger.log(Level.WARNING, "Illegal helper search:\t" + ee.getCause(), ee.getCause());
+                }
+            this.end();
+        }
+    }
+
+    /**
+     * Set the {@link Pruning} techniques of every {@link Search}.<br>
+     * Must not be called while a search is running.
+     *
+     * @param pruning {@link Pruning} techniques to use, none for a plain alpha-beta search
+     */
+    public void setPruning(final Set<Pruning> pruning) {
+        this.main.setPruning(pruning);
+        for (final Search helper : this.helpers)
+            helper.setPruning(pruning);
+    }
+
+    /**
+     * Stop the search running as soon as possible.<br>
+     * May be called from any thread; has no effect if no search is running.
+     */
+    public void stop() {
+        synchronized (this.lock) {
+            if (!this.running)
+                return;
+            this.main.stop();
+            for (final Search helper : this.helpers)
+                helper.stop();
+        }
+    }
+
+    /**
+     * Count the nodes of every thread in a result of the main search
+     *
+     * @param result {@link SearchResult} of the main search
+     * @return {@link SearchResult} with the nodes of every {@link Search}
+     */
+    private SearchResult total(final SearchResult result) {
+        long nodes = this.main.getNodes();
+        for (final Search helper : this.helpers)
+            nodes += helper.getNodes();
+        return new SearchResult(result.getPV(), result.score, result.depth, nodes, result.elapsed, result.rank);
+    }
+}
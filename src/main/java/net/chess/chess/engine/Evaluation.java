@@ -0,0 +1,124 @@
+package net.chess.chess.engine;
+
+import java.util.Objects;
+
+import net.chess.chess.position.Bitboards;
+import net.chess.chess.position.PieceCode;
+import net.chess.chess.position.Position;
+
+import static net.chess.chess.position.PieceCode.*;
+
+/**
+ * Static evaluation of a {@link Position}: material plus a bonus for the
+ * square each piece stands on.<br>
+ * Scores are in centipawns from the point of view of the side to move.<br>
+ * Read more <a href="https://www.chessprogramming.org/Simplified_Evaluation_Function">here</a>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Evaluation {
+    /**
+     * Square bonus of each piece type, indexed by {@link PieceCode} type then
+     * square as seen by white, laid out from a8 down to h1
+     */
+    private static final int[][] squares = {
+            {},
+            { // Pawn
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    50, 50, 50, 50, 50, 50, 50, 50,
+                    10, 10, 20, 30, 30, 20, 10, 10,
+                    5, 5, 10, 25, 25, 10, 5, 5,
+                    0, 0, 0, 20, 20, 0, 0, 0,
+                    5, -5, -10, 0, 0, -10, -5, 5,
+                    5, 10, 10, -20, -20, 10, 10, 5,
+                    0, 0, 0, 0, 0, 0, 0, 0},
+            { // Knight
+                    -50, -40, -30, -30, -30, -30, -40, -50,
+                    -40, -20, 0, 0, 0, 0, -20, -40,
+                    -30, 0, 10, 15, 15, 10, 0, -30,
+                    -30, 5, 15, 20, 20, 15, 5, -30,
+                    -30, 0, 15, 20, 20, 15, 0, -30,
+                    -30, 5, 10, 15, 15, 10, 5, -30,
+                    -40, -20, 0, 5, 5, 0, -20, -40,
+                    -50, -40, -30, -30, -30, -30, -40, -50},
+            { // Bishop
+                    -20, -10, -10, -10, -10, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 10, 10, 5, 0, -10,
+                    -10, 5, 5, 10, 10, 5, 5, -10,
+                    -10, 0, 10, 10, 10, 10, 0, -10,
+                    -10, 10, 10, 10, 10, 10, 10, -10,
+                    -10, 5, 0, 0, 0, 0, 5, -10,
+                    -20, -10, -10, -10, -10, -10, -10, -20},
+            { // Rook
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    5, 10, 10, 10, 10, 10, 10, 5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    0, 0, 0, 5, 5, 0, 0, 0},
+            { // Queen
+                    -20, -10, -10, -5, -5, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 5, 5, 5, 0, -10,
+                    -5, 0, 5, 5, 5, 5, 0, -5,
+                    0, 0, 5, 5, 5, 5, 0, -5,
+                    -10, 5, 5, 5, 5, 5, 0, -10,
+                    -10, 0, 5, 0, 0, 0, 0, -10,
+                    -20, -10, -10, -5, -5, -10, -10, -20},
+            { // King
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -20, -30, -30, -40, -40, -30, -30, -20,
+                    -10, -20, -20, -20, -20, -20, -20, -10,
+                    20, 20, 0, 0, 0, 0, 20, 20,
+                    20, 30, 10, 0, 0, 10, 30, 20}};
+
+    /**
+     * Material value of each piece type, indexed by {@link PieceCode} type
+     */
+    private static final int[] values = {0, 100, 320, 330, 500, 900, 20000};
+
+    /**
+     * Constructor
+     */
+    private Evaluation() {
+    }
+
+    /**
+     * Evaluate a position
+     *
+     * @param position {@link Position} to evaluate
+     * @return score in centipawns for the side to move
+     */
+    public static int evaluate(final Position position) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        int score = 0;
+        for (int type = PAWN; type < KING; ++type)
+            score += (Long.bitCount(position.pieces(WHITE, type)) - Long.bitCount(position.pieces(BLACK, type)))
+                    * values[type];
+        for (int type = PAWN; type <= KING; ++type) {
+            // The table is laid out from a8, so a white square is mirrored and a black one is not
+            for (long pieces = position.pieces(WHITE, type); pieces != 0; pieces &= pieces - 1)
+                score += squares[type][Bitboards.first(pieces) ^ 56];
+            for (long pieces = position.pieces(BLACK, type); pieces != 0; pieces &= pieces - 1)
+                score -= squares[type][Bitboards.first(pieces)];
+        }
+        return position.getSide() == WHITE ? score : -score;
+    }
+
+    /**
+     * Get the material value of a piece type
+     *
+     * @param type {@link PieceCode} type
+     * @return value in centipawns
+     */
+    public static int value(final int type) {
+        return values[type];
+    }
+}
@@ -0,0 +1,111 @@
+package net.chess.chess.engine;
+
+import java.util.Objects;
+
+import net.chess.chess.position.Bitboards;
+import net.chess.chess.position.MoveCode;
+import net.chess.chess.position.PieceCode;
+import net.chess.chess.position.Position;
+
+import static net.chess.chess.position.PieceCode.*;
+
+/**
+ * Static exchange evaluation of a {@link Position}.<br>
+ * The material won or lost by a capture is found without searching: both
+ * sides keep recapturing on the destination square with their least valuable
+ * attacker, sliders behind the pieces that left joining in, and either side
+ * may stop once carrying on would lose. Pins and checks are ignored, so the
+ * result is an estimate, but it is cheap enough to prune bad captures or to
+ * flag hanging pieces.<br>
+ * Read more <a href="https://www.chessprogramming.org/Static_Exchange_Evaluation">here</a>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Exchange {
+    /**
+     * Constructor
+     */
+    private Exchange() {
+    }
+
+    /**
+     * Evaluate the exchange started by a move
+     *
+     * @param position {@link Position} the move is played from
+     * @param move     {@link MoveCode} of a move of the piece on its source square
+     * @return material won in centipawns, negative if the move loses material
+     */
+    public static int evaluate(final Position position, final int move) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        final int from = MoveCode.from(move), to = MoveCode.to(move), promotion = MoveCode.promotion(move);
+        final int[] gain = new int[32];
+        long occupied = position.getOccupied() ^ Bitboards.bit(from);
+
+        // The victim of en passant is not on the destination square, but is always a pawn
+        if (MoveCode.isEnPassant(move)) {
+            occupied ^= Bitboards.bit(to ^ 8);
+            gain[0] = Evaluation.value(PAWN);
+        } else
+            gain[0] = Evaluation.value(type(position.get(to)));
+        int piece = type(position.get(from));
+        if (promotion != NONE) {
+            gain[0] += Evaluation.value(promotion) - Evaluation.value(PAWN);
+            piece = promotion;
+        }
+
+        int depth = 0, side = color(position.get(from)) ^ 1;
+        while (true) {
+            final long attackers = (position.attackers(to, WHITE, occupied) | position.attackers(to, BLACK, occupied))
+                    & occupied, mine = attackers & position.occupancy(side);
+            if (mine == 0)
+                break;
+            int type = PAWN;
+            while ((mine & position.pieces(side, type)) == 0)
+                ++type;
+            // The king may only take last, when nothing defends the square
+            if (type == KING && (attackers & position.occupancy(side ^ 1)) != 0)
+                break;
+
+            ++depth;
+            gain[depth] = Evaluation.value(piece) - gain[depth - 1];
+            occupied ^= Bitboards.bit(Bitboards.first(mine & position.pieces(side, type)));
+            piece = type;
+            side ^= 1;
+        }
+
+        // Either side stops the exchange as soon as carrying on loses
+        for (; depth > 0; --depth)
+            gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+        return gain[0];
+    }
+
+    /**
+     * Find the pieces of a colour the enemy may win material from by capturing
+     * them with its least valuable attacker
+     *
+     * @param position {@link Position} to inspect
+     * @param color    {@link PieceCode#WHITE} or {@link PieceCode#BLACK}
+     * @return bitboard of the hanging pieces, the king excluded
+     */
+    public static long hanging(final Position position, final int color) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        final int enemy = color ^ 1;
+        final long occupied = position.getOccupied();
+        long hanging = 0L;
+        for (long pieces = position.occupancy(color) & ~position.pieces(color, KING) & position.attacked(enemy);
+             pieces != 0; pieces &= pieces - 1) {
+            final int square = Bitboards.first(pieces);
+            final long attackers = position.attackers(square, enemy, occupied);
+            int type = PAWN;
+            while ((attackers & position.pieces(enemy, type)) == 0)
+                ++type;
+
+            final int from = Bitboards.first(attackers & position.pieces(enemy, type));
+            final boolean last = type == PAWN && (square < 8 || square >= 56);
+            if (evaluate(position, MoveCode.of(from, square, last ? QUEEN : NONE)) > 0)
+                hanging |= Bitboards.bit(square);
+        }
+        return hanging;
+    }
+}
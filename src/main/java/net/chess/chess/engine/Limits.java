@@ -0,0 +1,116 @@
+package net.chess.chess.engine;
+
+/**
+ * Limits of a {@link Search}: the deepest iteration, the number of nodes it
+ * may visit and the clock of the side to move.<br>
+ * The search stops at whichever limit is reached first, always finishing at
+ * least its first iteration. The clock is turned into deadlines by a
+ * {@link TimeManager}.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Limits {
+    /**
+     * Deepest iteration, in plies
+     */
+    public final int depth;
+
+    /**
+     * Milliseconds added to the clock after each move
+     */
+    public final long increment;
+
+    /**
+     * Maximum number of nodes visited
+     */
+    public final long nodes;
+
+    /**
+     * Milliseconds left on the clock, {@link Long#MAX_VALUE} without a clock
+     */
+    public final long time;
+
+    /**
+     * Constructor without a clock
+     *
+     * @param depth {@link #depth}, from {@code 1} to {@link Search#MAX_PLY}
+     * @param nodes {@link #nodes}, at least {@code 1}
+     * @throws IllegalArgumentException if a limit is out of range
+     */
+    public Limits(final int depth, final long nodes) throws IllegalArgumentException {
+        this(depth, nodes, Long.MAX_VALUE, 0L);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param depth     {@link #depth}, from {@code 1} to {@link Search#MAX_PLY}
+     * @param nodes     {@link #nodes}, at least {@code 1}
+     * @param time      {@link #time}, at least {@code 1}
+     * @param increment {@link #increment}, at least {@code 0}
+     * @throws IllegalArgumentException if a limit is out of range
+     */
+    public Limits(final int depth, final long nodes, final long time, final long increment)
+            throws IllegalArgumentException {
+        if (depth < 1 || depth > Search.MAX_PLY)
+            throw new IllegalArgumentException("Illegal depth:\t" + depth);
+        if (nodes < 1)
+            throw new IllegalArgumentException("Illegal node budget:\t" + nodes);
+        if (time < 1)
+            throw new IllegalArgumentException("Illegal time:\t" + time);
+        if (increment < 0)
+            throw new IllegalArgumentException("Illegal increment:\t" + increment);
+        this.depth = depth;
+        this.nodes = nodes;
+        this.time = time;
+        this.increment = increment;
+    }
+
+    /**
+     * Limits of a search to the clock of the side to move
+     *
+     * @param time      {@link #time}
+     * @param increment {@link #increment}
+     * @return {@link Limits} with no depth limit nor node budget
+     */
+    public static Limits clock(final long time, final long increment) {
+        return new Limits(Search.MAX_PLY, Long.MAX_VALUE, time, increment);
+    }
+
+    /**
+     * Limits of a search to a fixed depth
+     *
+     * @param depth {@link #depth}
+     * @return {@link Limits} with no node budget
+     */
+    public static Limits depth(final int depth) {
+        return new Limits(depth, Long.MAX_VALUE);
+    }
+
+    /**
+     * Determine if the search is limited by a clock
+     *
+     * @return {@code true} if {@link #time} is set<br>
+     * {@code false} otherwise
+     */
+    public boolean isTimed() {
+        return this.time != Long.MAX_VALUE;
+    }
+
+    /**
+     * Limits of a search to a node budget
+     *
+     * @param nodes {@link #nodes}
+     * @return {@link Limits} with no depth limit
+     */
+    public static Limits nodes(final long nodes) {
+        return new Limits(Search.MAX_PLY, nodes);
+    }
+
+    @Override
+    public String toString() {
+        return "Limits [depth=" + this.depth + ", nodes=" + this.nodes + ", time=" + this.time + ", increment="
+                + this.increment + "]";
+    }
+}
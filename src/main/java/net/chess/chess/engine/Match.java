@@ -0,0 +1,136 @@
+package net.chess.chess.engine;
+
+import java.util.Objects;
+import java.util.Set;
+
+import net.chess.chess.perft.ReferencePosition;
+import net.chess.chess.position.MoveCode;
+import net.chess.chess.position.PieceCode;
+import net.chess.chess.position.Position;
+
+/**
+ * Match between two {@link Pruning} settings of the {@link Engine} at equal
+ * time.<br>
+ * Every {@link ReferencePosition} is played twice, the colours swapped, with
+ * both sides on the same clock and a single thread each. Pruning only helps
+ * if the depth it gains in that time outweighs the moves it misses, which the
+ * node counts of {@link Bench} cannot tell.<br>
+ * Games end by mate or a flag fall; stalemate, the fifty-move rule, a
+ * repeated position, bare kings and reaching {@link #max_plies} are draws.
+ * The score is that of the first setting.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Match {
+    /**
+     * Milliseconds added to the clock after each move when none is given
+     */
+    private static final long default_increment = 100L;
+
+    /**
+     * Milliseconds on the clock of each side when none is given
+     */
+    private static final long default_time = 10_000L;
+
+    /**
+     * Plies after which a game is drawn
+     */
+    private static final int max_plies = 300;
+
+    /**
+     * Constructor
+     */
+    private Match() {
+    }
+
+    /**
+     * Determine if neither side has the material to mate: bare kings, or a
+     * single minor piece left
+     *
+     * @param position {@link Position} to inspect
+     * @return {@code true} if the game is drawn<br>
+     * {@code false} otherwise
+     */
+    private static boolean isDeadPosition(final Position position) {
+        if (Long.bitCount(position.getOccupied()) > 3)
+            return false;
+        for (int color = PieceCode.WHITE; color <= PieceCode.BLACK; ++color)
+            if ((position.pieces(color, PieceCode.PAWN) | position.pieces(color, PieceCode.ROOK)
+                    | position.pieces(color, PieceCode.QUEEN)) != 0)
+                return false;
+        return true;
+    }
+
+    /**
+     * Run the match from the command line
+     *
+     * @param args optional {@link Pruning} techniques of each side parsed by
+     *             {@link Pruning#parse(String)}, all against none by default,
+     *             then optional milliseconds on the clock and increment
+     */
+    public static void main(final String[] args) {
+        final Set<Pruning> first = Pruning.parse(args.length > 0 ? args[0] : "all");
+        final Set<Pruning> second = Pruning.parse(args.length > 1 ? args[1] : "none");
+        final long time = args.length > 2 ? Long.parseLong(args[2]) : default_time;
+        final long increment = args.length > 3 ? Long.parseLong(args[3]) : default_increment;
+
+        int wins = 0, draws = 0, losses = 0;
+        for (final ReferencePosition reference : ReferencePosition.values())
+            for (int game = 0; game < 2; ++game) {
+                final boolean white = game == 0;
+                final int result = play(new Position(reference.fen), white ? first : second,
+                        white ? second : first, time, increment) * (white ? 1 : -1);
+                if (result > 0)
+                    ++wins;
+                else if (result < 0)
+                    ++losses;
+                else
+                    ++draws;
+                System.out.printf("%s, %s with %s:\t%s%n", reference, white ? "White" : "Black", first,
+                        result > 0 ? "win" : result < 0 ? "loss" : "draw");
+            }
+        System.out.printf("%s against %s:\t+%d =%d -%d%n", first, second, wins, draws, losses);
+    }
+
+    /**
+     * Play a game to its end
+     *
+     * @param position  {@link Position} to start from, played on
+     * @param white     {@link Pruning} techniques of White
+     * @param black     {@link Pruning} techniques of Black
+     * @param time      milliseconds on the clock of each side
+     * @param increment milliseconds added to the clock after each move
+     * @return {@code 1} if White wins, {@code -1} if Black wins, {@code 0} on a draw
+     */
+    private static int play(final Position position, final Set<Pruning> white, final Set<Pruning> black,
+            final long time, final long increment) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        // A fresh engine per game and side, so neither reads the table of the other
+        try (final Engine first = new Engine(1, Engine.DEFAULT_HASH);
+             final Engine second = new Engine(1, Engine.DEFAULT_HASH)) {
+            first.setPruning(white);
+            second.setPruning(black);
+            final long[] clocks = {time, time};
+            for (int ply = 0; ply < max_plies; ++ply) {
+                final int side = position.getSide();
+                if (!position.hasLegalMove())
+                    return position.inCheck() ? (side == PieceCode.WHITE ? -1 : 1) : 0;
+                if (position.getHalfmove() >= 100 || position.isRepetition() || isDeadPosition(position))
+                    return 0;
+
+                final long start = System.nanoTime();
+                final SearchResult result = (side == PieceCode.WHITE ? first : second).search(position,
+                        Limits.clock(clocks[side], increment));
+                clocks[side] -= (System.nanoTime() - start) / 1_000_000L;
+                if (clocks[side] <= 0)
+                    return side == PieceCode.WHITE ? -1 : 1;
+                clocks[side] += increment;
+                if (result.getMove() == MoveCode.NONE)
+                    throw new IllegalStateException("Illegal search result:\t" + result);
+                position.make(result.getMove());
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package net.chess.chess.engine;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Selective pruning a {@link Search} may use on top of alpha-beta.<br>
+ * Each technique may be turned on or off on its own, so its effect on the
+ * node count can be measured with {@link Bench} and its effect on the
+ * strength of the engine with {@link Match}.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public enum Pruning {
+    /**
+     * Near the leaves, skip the nodes whose static evaluation is far above
+     * beta, drop into the quiescence search from nodes far below alpha and
+     * skip the quiet moves that cannot raise alpha.<br>
+     * Read more <a href="https://www.chessprogramming.org/Futility_Pruning">here</a>
+     */
+    Futility,
+
+    /**
+     * Let the opponent move twice with a reduced search, and cut off if the
+     * side to move still stays above beta. Not tried in check or when the
+     * side to move has only pawns left, where passing may be the best move.<br>
+     * Read more <a href="https://www.chessprogramming.org/Null_Move_Pruning">here</a>
+     */
+    NullMove,
+
+    /**
+     * Search the quiet moves ordered late with less depth, growing with their
+     * rank in the move ordering, and again at full depth only if they raise
+     * alpha.<br>
+     * Read more <a href="https://www.chessprogramming.org/Late_Move_Reductions">here</a>
+     */
+    Reduction;
+
+    /**
+     * Parse a set of techniques from the command line
+     *
+     * @param list names separated by commas, {@code all} or {@code none}
+     * @return {@link Pruning} techniques listed
+     * @throws IllegalArgumentException if a name is unknown
+     */
+    public static Set<Pruning> parse(final String list) throws IllegalArgumentException {
+        Objects.requireNonNull(list, "List cannot be null");
+        if (list.equals("all"))
+            return EnumSet.allOf(Pruning.class);
+        final Set<Pruning> pruning = EnumSet.noneOf(Pruning.class);
+        if (list.equals("none"))
+            return pruning;
+        for (final String name : list.split(","))
+            try {
+                pruning.add(valueOf(name.trim()));
+            } catch (final IllegalArgumentException iae) {
+                throw new IllegalArgumentException("Illegal pruning:\t" + name, iae);
+            }
+        return pruning;
+    }
+}
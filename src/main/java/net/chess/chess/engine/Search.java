@@ -0,0 +1,822 @@
+package net.chess.chess.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import net.chess.chess.position.MoveCode;
+import net.chess.chess.position.MoveGenerator;
+import net.chess.chess.position.MoveList;
+import net.chess.chess.position.PieceCode;
+import net.chess.chess.position.Position;
+
+/**
+ * Negamax search with alpha-beta pruning and iterative deepening.<br>
+ * Past the nominal depth a quiescence search follows the captures and queen
+ * promotions that do not lose material by {@link Exchange}, so no score is
+ * taken in the middle of an exchange.<br>
+ * Each iteration searches one ply deeper than the last, so a result is ready
+ * whenever the search is stopped, by its {@link Limits}, its
+ * {@link TimeManager} or by {@link #stop()}. An unfinished iteration is thrown
+ * away.<br>
+ * A search may report several lines: for each iteration it searches the root
+ * once per line, leaving out the root moves of the lines already found, so
+ * the lines share one iterative deepening and one
+ * {@link TranspositionTable}.<br>
+ * A search may also ponder: it runs without limits until
+ * {@link #ponderhit(Limits)} gives it some, counted from when it started, so
+ * the time and nodes spent pondering are already used up.<br>
+ * A search works on its own copy of the position; one instance may be reused
+ * for many searches but must not run two at once. Its
+ * {@link TranspositionTable} is aged between searches by its owner, usually an
+ * {@link Engine}.<br>
+ * Moves are tried in order of promise: the move of the
+ * {@link TranspositionTable} first, then captures and queen promotions by most
+ * valuable victim and least valuable attacker, then the killer moves of the
+ * ply, the counter move of the previous move and the other quiet moves by
+ * history. The killers, counter moves and history are kept between searches.<br>
+ * Every move but the first is searched with a null window, and searched again
+ * with the full window only if it raises alpha. On top of that the search may
+ * prune selectively by each {@link Pruning} it is given.<br>
+ * Read more <a href="https://www.chessprogramming.org/Alpha-Beta">here</a>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Search {
+    /**
+     * Score above every evaluation, bounding the search window
+     */
+    public static final int INFINITY = 32_500;
+
+    /**
+     * Score of mating at the root; a mate found deeper scores one less per ply
+     */
+    public static final int MATE = 32_000;
+
+    /**
+     * Deepest ply a search may reach
+     */
+    public static final int MAX_PLY = 64;
+
+    /**
+     * Order score of captures and queen promotions, below the move of the
+     * {@link TranspositionTable}
+     */
+    private static final int capture_score = 1 << 28;
+
+    /**
+     * Order score of the counter move, below the killer moves
+     */
+    private static final int counter_score = 1 << 26;
+
+    /**
+     * Margin per ply of depth by which {@link Pruning#Futility} expects a quiet
+     * move may change the evaluation
+     */
+    private static final int futility_margin = 120;
+
+    /**
+     * Order score of the move of the {@link TranspositionTable}
+     */
+    private static final int hash_score = 1 << 30;
+
+    /**
+     * Bound of a history score, below the counter move
+     */
+    private static final int history_limit = 1 << 14;
+
+    /**
+     * Order score of the first killer move, below captures
+     */
+    private static final int killer_score = 1 << 27;
+
+    /**
+     * Plies removed from the depth of a late quiet move, indexed by depth, up to
+     * {@link #MAX_PLY} included, then rank in the move ordering
+     */
+    private static final int[][] late_reductions = new int[MAX_PLY + 1][MoveList.CAPACITY];
+
+    /**
+     * Number of nodes between two reads of the clock, a power of two
+     */
+    private static final int poll_interval = 1024;
+
+    /**
+     * Margin per ply of depth below alpha from which
+     * {@link Pruning#Futility} drops into the quiescence search
+     */
+    private static final int razor_margin = 300;
+
+    static {
+        // Reductions grow with both the depth left and how late the move is ordered
+        for (int depth = 1; depth <= MAX_PLY; ++depth)
+            for (int rank = 1; rank < MoveList.CAPACITY; ++rank)
+                late_reductions[depth][rank] = (int) (0.75 + Math.log(depth) * Math.log(rank) / 2.25);
+    }
+
+    /**
+     * Determine if the iteration running was cut short by {@link #stopped} or
+     * {@link #budget}
+     */
+    private boolean aborted;
+
+    /**
+     * Node budget of the search running, from its {@link Limits}
+     */
+    private long budget;
+
+    /**
+     * Quiet move that last refuted each move, indexed by its source and
+     * destination squares
+     */
+    private final int[][] counters;
+
+    /**
+     * Deepest iteration of the search running, from its {@link Limits}
+     */
+    private int deepest;
+
+    /**
+     * Root moves of the lines already found in the iteration running
+     */
+    private final MoveList excluded;
+
+    /**
+     * History score of quiet moves, indexed by side, source and destination
+     * squares; raised by the moves causing cutoffs and lowered by those tried
+     * before them
+     */
+    private final int[][][] history;
+
+    /**
+     * Two quiet moves that last caused a cutoff at each ply, the newest first
+     */
+    private final int[][] killers;
+
+    /**
+     * {@link MoveList} of each ply, reused by every node of that ply
+     */
+    private final MoveList[] lists;
+
+    /**
+     * Number of lines searched, the best first
+     */
+    private int multiPV;
+
+    /**
+     * Nodes visited by the search running
+     */
+    private long nodes;
+
+    /**
+     * {@link Limits} given by {@link #ponderhit(Limits)} and not yet adopted,
+     * or {@code null}
+     */
+    private volatile Limits pending;
+
+    /**
+     * {@link Position} searched, a copy of the one given, so the moves and null
+     * moves made and unmade in place never touch the game it comes from
+     */
+    private Position position;
+
+    /**
+     * {@link Pruning} techniques used
+     */
+    private Set<Pruning> pruning;
+
+    /**
+     * Triangular table of principal variations, indexed by the ply they start
+     * from
+     */
+    private final int[][] pv;
+
+    /**
+     * Length of each line of {@link #pv}
+     */
+    private final int[] pvLength;
+
+    /**
+     * Determine if the last completed iteration exists, so the search may stop
+     */
+    private boolean ready;
+
+    /**
+     * Order score of each move of {@link #lists}
+     */
+    private final int[][] scores;
+
+    /**
+     * Plies added to the depth of every iteration.<br>
+     * Helpers of an {@link Engine} search each iteration that much deeper than
+     * the main search, so they fill {@link #table} ahead of it.
+     */
+    private final int skew;
+
+    /**
+     * Determine if the search running must stop
+     */
+    private volatile boolean stopped;
+
+    /**
+     * {@link TranspositionTable} of this, which may be shared with other searches
+     */
+    private final TranspositionTable table;
+
+    /**
+     * {@link TimeManager} of the search running
+     */
+    private TimeManager timer;
+
+    /**
+     * {@link SearchResult} of each line of the last completed iteration, the
+     * best first
+     */
+    private List<SearchResult> variations;
+
+    /**
+     * Constructor
+     *
+     * @param table {@link #table}
+     */
+    public Search(final TranspositionTable table) {
+        this(table, 0);
+    }
+
+    /**
+     * Constructor of a helper of an {@link Engine}
+     *
+     * @param table {@link #table}, shared with the other searches of the {@link Engine}
+     * @param skew  {@link #skew}
+     */
+    Search(final TranspositionTable table, final int skew) {
+        this.table = Objects.requireNonNull(table, "TranspositionTable cannot be null");
+        this.skew = skew;
+        this.lists = new MoveList[MAX_PLY];
+        for (int ply = 0; ply < MAX_PLY; ++ply)
+            this.lists[ply] = new MoveList();
+        this.pv = new int[MAX_PLY][MAX_PLY];
+        this.pvLength = new int[MAX_PLY];
+        this.scores = new int[MAX_PLY][MoveList.CAPACITY];
+        this.killers = new int[MAX_PLY][2];
+        this.counters = new int[64][64];
+        this.history = new int[2][64][64];
+        this.pruning = Collections.unmodifiableSet(EnumSet.allOf(Pruning.class));
+        this.excluded = new MoveList();
+        this.multiPV = 1;
+        this.variations = List.of();
+    }
+
+    /**
+     * Adopt the {@link Limits} given by {@link #ponderhit(Limits)}.<br>
+     * Called by the thread searching only.
+     */
+    private void adopt() {
+        final Limits limits = this.pending;
+        this.pending = null;
+        this.budget = limits.nodes;
+        this.deepest = limits.depth;
+        this.timer = new TimeManager(limits, this.timer.getStart());
+    }
+
+    /**
+     * Convert a score read from {@link #table} to the current ply.<br>
+     * Mate scores are stored as the distance from the stored node, not the root.
+     *
+     * @param score score read from {@link #table}
+     * @param ply   plies searched from the root
+     * @return score relative to the root
+     */
+    private static int fromTable(final int score, final int ply) {
+        if (score >= MATE - MAX_PLY)
+            return score - ply;
+        if (score <= -MATE + MAX_PLY)
+            return score + ply;
+        return score;
+    }
+
+    /**
+     * Get {@link #multiPV}
+     *
+     * @return {@link #multiPV}
+     */
+    public int getMultiPV() {
+        return this.multiPV;
+    }
+
+    /**
+     * Get the number of nodes visited by the search running, or by the last one
+     *
+     * @return nodes visited
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * Get {@link #pruning}
+     *
+     * @return {@link #pruning}, unmodifiable
+     */
+    public Set<Pruning> getPruning() {
+        return this.pruning;
+    }
+
+    /**
+     * Get {@link #table}
+     *
+     * @return {@link #table}
+     */
+    public TranspositionTable getTable() {
+        return this.table;
+    }
+
+    /**
+     * Get {@link #variations}
+     *
+     * @return {@link #variations}, unmodifiable
+     */
+    public List<SearchResult> getVariations() {
+        return this.variations;
+    }
+
+    /**
+     * Determine if the side to move has a piece besides its king and pawns.<br>
+     * Without one, passing may well be its best option, which would make
+     * {@link Pruning#NullMove} unsound.
+     *
+     * @return {@code true} if the side to move has a knight, bishop, rook or queen<br>
+     * {@code false} otherwise
+     */
+    private boolean hasPieces() {
+        final int side = this.position.getSide();
+        return (this.position.occupancy(side) & ~this.position.pieces(side, PieceCode.PAWN)
+                & ~this.position.pieces(side, PieceCode.KING)) != 0;
+    }
+
+    /**
+     * Negamax alpha-beta search of the current position
+     *
+     * @param depth plies left to search
+     * @param ply   plies searched from the root
+     * @param alpha lower bound of the window
+     * @param beta  upper bound of the window
+     * @return score for the side to move, or {@code 0} once {@link #aborted}
+     */
+    private int negamax(final int depth, final int ply, int alpha, final int beta) {
+        this.pvLength[ply] = ply;
+        if (this.poll())
+            return 0;
+
+        if (ply > 0 && (this.position.getHalfmove() >= 100 || this.position.isRepetition()))
+            return 0;
+        if (depth <= 0 || ply == MAX_PLY - 1)
+            return this.quiesce(ply, alpha, beta);
+
+        // A deep enough entry may settle the node outright; the root always searches, to keep its line
+        final long key = this.position.getKey(), entry = this.table.probe(key);
+        final int hashed = TranspositionTable.move(entry);
+        if (entry != TranspositionTable.MISS && ply > 0 && TranspositionTable.depth(entry) >= depth) {
+            final int score = fromTable(TranspositionTable.score(entry), ply), bound = TranspositionTable.bound(entry);
+            if (bound == TranspositionTable.EXACT || bound == TranspositionTable.LOWER && score >= beta
+                    || bound == TranspositionTable.UPPER && score <= alpha)
+                return score;
+        }
+
+        // Only nodes off the principal variation, out of check, are pruned before their moves
+        final boolean check = this.position.inCheck(), principal = beta - alpha > 1;
+        final int evaluation = check ? -INFINITY : Evaluation.evaluate(this.position);
+        final boolean futile = !principal && !check && this.pruning.contains(Pruning.Futility) && depth <= 3;
+        if (futile && evaluation - futility_margin * depth >= beta && beta < MATE - MAX_PLY)
+            return evaluation;
+        if (futile && depth <= 2 && evaluation + razor_margin * depth <= alpha) {
+            final int score = this.quiesce(ply, alpha, alpha + 1);
+            if (this.aborted)
+                return 0;
+            if (score <= alpha)
+                return score;
+        }
+        if (!principal && !check && this.pruning.contains(Pruning.NullMove) && depth >= 3 && evaluation >= beta
+                && this.position.getMove(this.position.getPly() - 1) != MoveCode.NONE && this.hasPieces()) {
+            this.position.makeNull();
+            final int score = -this.negamax(depth - 4 - depth / 6, ply + 1, -beta, -beta + 1);
+            this.position.unmake();
+            if (this.aborted)
+                return 0;
+            // A mate found after passing is not proven, since passing is not a move
+            if (score >= beta)
+                return score >= MATE - MAX_PLY ? beta : score;
+        }
+
+        final MoveList moves = this.lists[ply];
+        MoveGenerator.generate(this.position, moves);
+        if (moves.isEmpty())
+            return check ? -MATE + ply : 0;
+        this.order(moves, ply, hashed);
+
+        final int original = alpha;
+        int best = hashed, searched = 0;
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = this.pick(moves, ply, i);
+            if (ply == 0 && this.excluded.contains(move))
+                continue;
+            final boolean quiet = !MoveCode.isCapture(move) && MoveCode.promotion(move) != PieceCode.QUEEN;
+            this.position.make(move);
+            final boolean checks = this.position.inCheck();
+            // A quiet move this far below alpha cannot raise it, unless it gives check
+            if (futile && searched > 0 && quiet && !checks && evaluation + futility_margin * depth <= alpha) {
+                this.position.unmake();
+                continue;
+            }
+
+            int score;
+            if (searched++ == 0)
+                score = -this.negamax(depth - 1, ply + 1, -beta, -alpha);
+            else {
+                final int reduction = this.pruning.contains(Pruning.Reduction) && depth >= 3 && quiet && !check
+                        && !checks && this.scores[ply][i] < counter_score
+                        ? Math.min(late_reductions[depth][i] - (principal ? 1 : 0), depth - 2) : 0;
+                score = -this.negamax(depth - 1 - Math.max(reduction, 0), ply + 1, -alpha - 1, -alpha);
+                if (score > alpha && reduction > 0)
+                    score = -this.negamax(depth - 1, ply + 1, -alpha - 1, -alpha);
+                if (score > alpha && score < beta)
+                    score = -this.negamax(depth - 1, ply + 1, -beta, -alpha);
+            }
+            this.position.unmake();
+            if (this.aborted)
+                return 0;
+
+            if (score <= alpha)
+                continue;
+            alpha = score;
+            best = move;
+            this.pv[ply][ply] = move;
+            System.arraycopy(this.pv[ply + 1], ply + 1, this.pv[ply], ply + 1, this.pvLength[ply + 1] - ply - 1);
+            this.pvLength[ply] = this.pvLength[ply + 1];
+            if (alpha >= beta) {
+                if (quiet)
+                    this.reward(moves, ply, i, depth);
+                break;
+            }
+        }
+
+        final int bound = alpha >= beta ? TranspositionTable.LOWER
+                : alpha > original ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+        // The root leaving moves out did not search the whole position
+        if (ply > 0 || this.excluded.isEmpty())
+            this.table.store(key, best, toTable(alpha, ply), depth, bound);
+        return alpha;
+    }
+
+    /**
+     * Score every move of a ply for {@link #pick(MoveList, int, int)}
+     *
+     * @param moves  {@link MoveList} of the ply
+     * @param ply    plies searched from the root
+     * @param hashed move of the {@link TranspositionTable}, or {@link MoveCode#NONE}
+     */
+    private void order(final MoveList moves, final int ply, final int hashed) {
+        final int[] scores = this.scores[ply], killers = this.killers[ply];
+        final int side = this.position.getSide(), last = this.position.getPly() - 1;
+        final int counter = last < 0 ? MoveCode.NONE
+                : this.counters[MoveCode.from(this.position.getMove(last))][MoveCode.to(this.position.getMove(last))];
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = moves.get(i), quiet = move & MoveCode.MOVE_MASK;
+            final int from = MoveCode.from(move), to = MoveCode.to(move);
+            if (quiet == hashed)
+                scores[i] = hash_score;
+            else if (MoveCode.isCapture(move) || MoveCode.promotion(move) == PieceCode.QUEEN) {
+                // The victim of en passant is not on the destination square, but is always a pawn
+                final int victim = MoveCode.isEnPassant(move) ? PieceCode.PAWN
+                        : PieceCode.type(this.position.get(to));
+                scores[i] = capture_score + 8 * (Evaluation.value(victim) + Evaluation.value(MoveCode.promotion(move)))
+                        - PieceCode.type(this.position.get(from));
+            } else if (quiet == killers[0])
+                scores[i] = killer_score;
+            else if (quiet == killers[1])
+                scores[i] = killer_score - 1;
+            else if (quiet == counter)
+                scores[i] = counter_score;
+            else
+                scores[i] = this.history[side][from][to];
+        }
+    }
+
+    /**
+     * Bring the best scored move left to its turn.<br>
+     * A selection sort done one step at a time, so a cutoff spares sorting
+     * the rest of the moves.
+     *
+     * @param moves {@link MoveList} of the ply, scored by {@link #order(MoveList, int, int)}
+     * @param ply   plies searched from the root
+     * @param index index of the move to try next
+     * @return move to try next
+     */
+    private int pick(final MoveList moves, final int ply, final int index) {
+        final int[] scores = this.scores[ply];
+        int best = index;
+        for (int i = index + 1; i < moves.size(); ++i)
+            if (scores[i] > scores[best])
+                best = i;
+        if (best != index) {
+            moves.swap(index, best);
+            final int score = scores[index];
+            scores[index] = scores[best];
+            scores[best] = score;
+        }
+        return moves.get(index);
+    }
+
+    /**
+     * Count a node and determine if the iteration must be dropped, by
+     * {@link #stop()}, the node budget or the hard deadline of {@link #timer}.<br>
+     * The clock and {@link #pending} are read only every
+     * {@link #poll_interval} nodes, since reading them costs more than
+     * searching a node.
+     *
+     * @return {@code true} if the search is now {@link #aborted}<br>
+     * {@code false} otherwise
+     */
+    private boolean poll() {
+        ++this.nodes;
+        if ((this.nodes & poll_interval - 1) == 0 && this.pending != null)
+            this.adopt();
+        if (this.ready && (this.stopped || this.nodes >= this.budget
+                || (this.nodes & poll_interval - 1) == 0 && this.timer.isHardExpired()))
+            this.aborted = true;
+        return this.aborted;
+    }
+
+    /**
+     * Give limits to the search running, or to the next one if none is
+     * running, when it is pondering.<br>
+     * The limits count from the start of the search, so a search that already
+     * pondered past them stops at once. May be called from any thread.
+     *
+     * @param limits {@link Limits} of the search from now on
+     */
+    public void ponderhit(final Limits limits) {
+        this.pending = Objects.requireNonNull(limits, "Limits cannot be null");
+    }
+
+    /**
+     * Quiescence search of the current position, past the nominal depth.<br>
+     * The side to move may stand pat on the static evaluation, or try the
+     * captures and queen promotions that do not lose material; in check every
+     * evasion is tried instead.<br>
+     * Read more <a href="https://www.chessprogramming.org/Quiescence_Search">here</a>
+     *
+     * @param ply   plies searched from the root
+     * @param alpha lower bound of the window
+     * @param beta  upper bound of the window
+     * @return score for the side to move, or {@code 0} once {@link #aborted}
+     */
+    private int quiesce(final int ply, int alpha, final int beta) {
+        this.pvLength[ply] = ply;
+        if (this.poll())
+            return 0;
+        if (ply == MAX_PLY - 1)
+            return Evaluation.evaluate(this.position);
+
+        final boolean check = this.position.inCheck();
+        if (!check) {
+            final int stand = Evaluation.evaluate(this.position);
+            if (stand >= beta)
+                return stand;
+            alpha = Math.max(alpha, stand);
+        }
+
+        final MoveList moves = this.lists[ply];
+        MoveGenerator.generate(this.position, moves);
+        if (moves.isEmpty())
+            return check ? -MATE + ply : 0;
+        this.order(moves, ply, MoveCode.NONE);
+
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = this.pick(moves, ply, i);
+            // Captures come first, so the quiet moves left are only searched out of check
+            if (!check && this.scores[ply][i] < capture_score)
+                break;
+            if (!check && Exchange.evaluate(this.position, move) < 0)
+                continue;
+
+            this.position.make(move);
+            final int score = -this.quiesce(ply + 1, -beta, -alpha);
+            this.position.unmake();
+            if (this.aborted)
+                return 0;
+            if (score > alpha) {
+                alpha = score;
+                if (alpha >= beta)
+                    break;
+            }
+        }
+        return alpha;
+    }
+
+    /**
+     * Remember a quiet move that caused a cutoff, so it is tried early in
+     * similar positions
+     *
+     * @param moves {@link MoveList} of the ply, in the order tried
+     * @param ply   plies searched from the root
+     * @param index index of the move causing the cutoff
+     * @param depth plies left to search
+     */
+    private void reward(final MoveList moves, final int ply, final int index, final int depth) {
+        final int move = moves.get(index) & MoveCode.MOVE_MASK, side = this.position.getSide();
+        final int[] killers = this.killers[ply];
+        if (killers[0] != move) {
+            killers[1] = killers[0];
+            killers[0] = move;
+        }
+        final int last = this.position.getPly() - 1;
+        if (last >= 0) {
+            final int previous = this.position.getMove(last);
+            this.counters[MoveCode.from(previous)][MoveCode.to(previous)] = move;
+        }
+
+        // Deeper cutoffs weigh more; the quiet moves tried before this one failed to cut off
+        final int bonus = Math.min(depth * depth, history_limit / 16);
+        for (int i = 0; i < index; ++i) {
+            final int tried = moves.get(i);
+            if (!MoveCode.isCapture(tried) && MoveCode.promotion(tried) != PieceCode.QUEEN)
+                this.update(side, tried, -bonus);
+        }
+        this.update(side, move, bonus);
+    }
+
+    /**
+     * Forget a stop or ponder hit requested after the last search ended.<br>
+     * Must not be called while a search is running.
+     */
+    void reset() {
+        this.stopped = false;
+        this.pending = null;
+    }
+
+    /**
+     * Search a position
+     *
+     * @param position {@link Position} to search, copied so the original is untouched
+     * @param limits   {@link Limits} of the search
+     * @return {@link SearchResult} of the deepest completed iteration
+     */
+    public SearchResult search(final Position position, final Limits limits) {
+        return this.search(position, limits, null);
+    }
+
+    /**
+     * Search a position, reporting each completed iteration
+     *
+     * @param position {@link Position} to search, copied so the original is untouched
+     * @param limits   {@link Limits} of the search
+     * @param info     called with the {@link SearchResult} of each iteration, or {@code null}
+     * @return {@link SearchResult} of the deepest completed iteration
+     */
+    public SearchResult search(final Position position, final Limits limits, final Consumer<SearchResult> info) {
+        this.position = new Position(Objects.requireNonNull(position, "Position cannot be null"));
+        this.budget = Objects.requireNonNull(limits, "Limits cannot be null").nodes;
+        this.deepest = limits.depth;
+        this.timer = new TimeManager(limits);
+        if (this.pending != null)
+            this.adopt();
+        this.nodes = 0L;
+        this.aborted = false;
+        this.ready = false;
+        for (final int[] killers : this.killers)
+            Arrays.fill(killers, MoveCode.NONE);
+        // Older history still helps, but the moves of this search should weigh more
+        for (final int[][] side : this.history)
+            for (final int[] from : side)
+                for (int to = 0; to < 64; ++to)
+                    from[to] /= 2;
+
+        this.variations = List.of();
+        // There cannot be more lines than root moves, but even a position without moves gets its line
+        MoveGenerator.generate(this.position, this.excluded);
+        final int lines = Math.max(1, Math.min(this.multiPV, this.excluded.size()));
+
+        SearchResult result = null;
+        try {
+            for (int depth = 1; depth <= this.deepest; ++depth) {
+                final List<SearchResult> iteration = new ArrayList<>(lines);
+                this.excluded.clear();
+                for (int line = 1; line <= lines && !this.aborted; ++line) {
+                    // A skewed helper searches deeper, but reports the iteration of the main search
+                    final int score = this.negamax(Math.min(depth + this.skew, this.deepest), 0, -INFINITY,
+                            INFINITY);
+                    if (this.aborted)
+                        break;
+                    iteration.add(new SearchResult(Arrays.copyOf(this.pv[0], this.pvLength[0]), score, depth,
+                            this.nodes, this.timer.elapsed(), line));
+                    if (this.pvLength[0] > 0)
+                        this.excluded.add(this.pv[0][0]);
+                    if (info != null)
+                        info.accept(iteration.get(line - 1));
+                }
+                if (this.aborted)
+                    break;
+
+                // A later line may score above an earlier one, as pruning depends on the window
+                iteration.sort(Comparator.comparingInt(variation -> -variation.score));
+                for (int line = 0; line < iteration.size(); ++line) {
+                    final SearchResult variation = iteration.get(line);
+                    if (variation.rank != line + 1)
+                        iteration.set(line, new SearchResult(variation.getPV(), variation.score, variation.depth,
+                                variation.nodes, variation.elapsed, line + 1));
+                }
+
+                final int previous = result == null ? MoveCode.NONE : result.getMove();
+                result = iteration.get(0);
+                this.variations = Collections.unmodifiableList(iteration);
+                this.ready = true;
+                // Nothing deeper changes a forced mate or a position without moves
+                if (this.stopped || result.isMate() || this.pvLength[0] == 0)
+                    break;
+                if (this.pending != null)
+                    this.adopt();
+                this.timer.update(previous != MoveCode.NONE && previous != result.getMove());
+                if (this.timer.isSoftExpired())
+                    break;
+            }
+        } finally {
+            // Cleared only once done, so a request made before the search started is not lost
+            this.stopped = false;
+            this.pending = null;
+            this.excluded.clear();
+        }
+        return result;
+    }
+
+    /**
+     * Set {@link #multiPV}.<br>
+     * Must not be called while a search is running.
+     *
+     * @param multiPV {@link #multiPV}
+     * @throws IllegalArgumentException if there is no line to search
+     */
+    public void setMultiPV(final int multiPV) throws IllegalArgumentException {
+        if (multiPV < 1 || multiPV > MoveList.CAPACITY)
+            throw new IllegalArgumentException("Illegal line count:\t" + multiPV);
+        this.multiPV = multiPV;
+    }
+
+    /**
+     * Set {@link #pruning}.<br>
+     * Must not be called while a search is running.
+     *
+     * @param pruning {@link Pruning} techniques to use, none for a plain alpha-beta search
+     */
+    public void setPruning(final Set<Pruning> pruning) {
+        final Set<Pruning> copy = EnumSet.noneOf(Pruning.class);
+        copy.addAll(Objects.requireNonNull(pruning, "Pruning cannot be null"));
+        this.pruning = Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * Stop the search running as soon as possible, or the next one if none is
+     * running.<br>
+     * May be called from any thread; the first iteration is always completed.
+     */
+    public void stop() {
+        this.stopped = true;
+    }
+
+    /**
+     * Convert a score found at the current ply for {@link #table}
+     *
+     * @param score score relative to the root
+     * @param ply   plies searched from the root
+     * @return score relative to the stored node
+     */
+    private static int toTable(final int score, final int ply) {
+        if (score >= MATE - MAX_PLY)
+            return score + ply;
+        if (score <= -MATE + MAX_PLY)
+            return score - ply;
+        return score;
+    }
+
+    /**
+     * Add a bonus to the history score of a quiet move.<br>
+     * The bonus shrinks as the score nears {@link #history_limit}, so scores
+     * stay within it and recent cutoffs can overtake old ones.
+     *
+     * @param side  side to move
+     * @param move  quiet move
+     * @param bonus amount added, negative for a penalty
+     */
+    private void update(final int side, final int move, final int bonus) {
+        final int[] history = this.history[side][MoveCode.from(move)];
+        final int to = MoveCode.to(move);
+        history[to] += bonus - history[to] * Math.abs(bonus) / history_limit;
+    }
+}
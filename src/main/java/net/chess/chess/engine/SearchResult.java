@@ -0,0 +1,122 @@
+package net.chess.chess.engine;
+
+import java.util.Arrays;
+
+import net.chess.chess.position.MoveCode;
+
+/**
+ * Outcome of one completed iteration of a {@link Search}, or of one of its
+ * lines when it searches several.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class SearchResult {
+    /**
+     * Depth of the iteration, in plies
+     */
+    public final int depth;
+
+    /**
+     * Time spent since the search started, in nanoseconds
+     */
+    public final long elapsed;
+
+    /**
+     * Nodes visited since the search started
+     */
+    public final long nodes;
+
+    /**
+     * Rank of the line among the lines of the iteration, from {@code 1} for the best
+     */
+    public final int rank;
+
+    /**
+     * Score in centipawns for the side to move
+     */
+    public final int score;
+
+    /**
+     * Principal variation, the best line found, as {@link MoveCode}
+     */
+    private final int[] pv;
+
+    /**
+     * Constructor
+     *
+     * @param pv      {@link #pv}, not copied
+     * @param score   {@link #score}
+     * @param depth   {@link #depth}
+     * @param nodes   {@link #nodes}
+     * @param elapsed {@link #elapsed}
+     * @param rank    {@link #rank}
+     */
+    SearchResult(final int[] pv, final int score, final int depth, final long nodes, final long elapsed,
+            final int rank) {
+        this.pv = pv;
+        this.rank = rank;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Get the best move
+     *
+     * @return first {@link MoveCode} of {@link #pv}, or {@link MoveCode#NONE} if there is no legal move
+     */
+    public int getMove() {
+        return this.pv.length == 0 ? MoveCode.NONE : this.pv[0];
+    }
+
+    /**
+     * Get the number of nodes visited per second
+     *
+     * @return nodes per second
+     */
+    public long getNodesPerSecond() {
+        return this.nodes * 1_000_000_000L / Math.max(this.elapsed, 1L);
+    }
+
+    /**
+     * Get {@link #pv}
+     *
+     * @return copy of {@link #pv}
+     */
+    public int[] getPV() {
+        return Arrays.copyOf(this.pv, this.pv.length);
+    }
+
+    /**
+     * Determine if the score is a forced mate
+     *
+     * @return {@code true} if either side mates<br>
+     * {@code false} otherwise
+     */
+    public boolean isMate() {
+        return Math.abs(this.score) >= Search.MATE - Search.MAX_PLY;
+    }
+
+    /**
+     * Converts this into a line in the style of the Universal Chess Interface,
+     * such as {@code depth 5 multipv 1 score cp 34 nodes 8123 nps 950000 time 8 pv e2e4 e7e5}
+     *
+     * @return information line of this
+     */
+    @Override
+    public String toString() {
+        final StringBuilder line = new StringBuilder("depth ").append(this.depth).append(" multipv ")
+                .append(this.rank).append(" score ");
+        if (this.isMate())
+            line.append("mate ").append(this.score > 0 ? (Search.MATE - this.score + 1) / 2 : -(Search.MATE + this.score) / 2);
+        else
+            line.append("cp ").append(this.score);
+        line.append(" nodes ").append(this.nodes).append(" nps ").append(this.getNodesPerSecond()).append(" time ")
+                .append(this.elapsed / 1_000_000L).append(" pv");
+        for (final int move : this.pv)
+            line.append(' ').append(MoveCode.toString(move));
+        return line.toString();
+    }
+}
@@ -0,0 +1,152 @@
+package net.chess.chess.engine;
+
+import java.util.Objects;
+
+/**
+ * Deadlines of a {@link Search} on a clock.<br>
+ * The time left plus the increment becomes two budgets: the soft one, after
+ * which no new iteration starts, and the hard one, after which the iteration
+ * running is dropped. A share of the clock is kept back for the moves still to
+ * come and for the delay of playing the move, so the clock never runs out.<br>
+ * While the best move keeps changing between iterations the soft budget grows,
+ * up to the hard one, so an unclear position gets more time; it shrinks back
+ * as the best move settles.<br>
+ * Read more <a href="https://www.chessprogramming.org/Time_Management">here</a>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class TimeManager {
+    /**
+     * Largest factor the soft budget may be stretched by
+     */
+    private static final double max_scale = 2.0;
+
+    /**
+     * Number of moves the time left is expected to last
+     */
+    private static final int moves_left = 30;
+
+    /**
+     * Milliseconds kept back for playing the move once found
+     */
+    private static final long overhead = 30L;
+
+    /**
+     * Nanoseconds after {@link #start} the search must be stopped
+     */
+    private final long hard;
+
+    /**
+     * Factor stretching {@link #soft} while the best move is unstable
+     */
+    private double scale;
+
+    /**
+     * Nanoseconds after {@link #start} no new iteration should start
+     */
+    private final long soft;
+
+    /**
+     * {@link System#nanoTime()} when the search started
+     */
+    private final long start;
+
+    /**
+     * Constructor, starting the clock
+     *
+     * @param limits {@link Limits} of the search
+     */
+    public TimeManager(final Limits limits) {
+        this(limits, System.nanoTime());
+    }
+
+    /**
+     * Constructor of a search that started earlier, such as a ponder search
+     * turned into a real one; the time it already spent counts against the
+     * budgets
+     *
+     * @param limits {@link Limits} of the search
+     * @param start  {@link #start}
+     */
+    public TimeManager(final Limits limits, final long start) {
+        Objects.requireNonNull(limits, "Limits cannot be null");
+        this.start = start;
+        this.scale = 1.0;
+        if (!limits.isTimed()) {
+            this.soft = this.hard = Long.MAX_VALUE;
+            return;
+        }
+
+        final long available = Math.max(limits.time - overhead, 1L);
+        final long soft = Math.min(available / moves_left + limits.increment * 3 / 4, available / 2);
+        final long hard = Math.min(soft * 4, available * 3 / 4);
+        this.soft = Math.max(soft, 1L) * 1_000_000L;
+        this.hard = Math.max(hard, 1L) * 1_000_000L;
+    }
+
+    /**
+     * Get the time since the search started
+     *
+     * @return elapsed nanoseconds
+     */
+    public long elapsed() {
+        return System.nanoTime() - this.start;
+    }
+
+    /**
+     * Get {@link #hard}
+     *
+     * @return {@link #hard}
+     */
+    public long getHard() {
+        return this.hard;
+    }
+
+    /**
+     * Get {@link #soft}
+     *
+     * @return {@link #soft}, before {@link #scale}
+     */
+    public long getSoft() {
+        return this.soft;
+    }
+
+    /**
+     * Get {@link #start}
+     *
+     * @return {@link #start}
+     */
+    public long getStart() {
+        return this.start;
+    }
+
+    /**
+     * Determine if the hard budget is spent
+     *
+     * @return {@code true} if the search must stop now<br>
+     * {@code false} otherwise
+     */
+    public boolean isHardExpired() {
+        return this.hard != Long.MAX_VALUE && this.elapsed() >= this.hard;
+    }
+
+    /**
+     * Determine if the soft budget, stretched by {@link #scale}, is spent
+     *
+     * @return {@code true} if no new iteration should start<br>
+     * {@code false} otherwise
+     */
+    public boolean isSoftExpired() {
+        return this.soft != Long.MAX_VALUE && this.elapsed() >= Math.min(this.soft * this.scale, this.hard);
+    }
+
+    /**
+     * Record the outcome of an iteration
+     *
+     * @param changed {@code true} if its best move differs from the previous iteration
+     */
+    public void update(final boolean changed) {
+        this.scale = changed ? Math.min(this.scale + 0.5, max_scale) : Math.max(this.scale - 0.1, 1.0);
+    }
+}
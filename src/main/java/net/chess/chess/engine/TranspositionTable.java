@@ -0,0 +1,202 @@
+package net.chess.chess.engine;
+
+import java.util.Arrays;
+
+import net.chess.chess.position.MoveCode;
+
+/**
+ * Hash table of search results, keyed by {@link net.chess.chess.position.Zobrist}
+ * key.<br>
+ * Entries are grouped in buckets of four, sixty-four bytes in all, so a probe
+ * reads a single cache line. Each entry is two {@code long}: the key exclusive
+ * or the data, then the data packing the best move, score, depth, bound and
+ * age. Entries are read and written without locks; an entry torn by two
+ * threads writing at once no longer verifies against its key, so it reads as
+ * a miss. The table may therefore be shared by every search thread.<br>
+ * A new entry replaces the entry of the same key, else the shallowest entry
+ * of the bucket, entries left by older searches counting as shallower.<br>
+ * Read more <a href="https://www.chessprogramming.org/Transposition_Table">here</a>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class TranspositionTable {
+    /**
+     * Bound of a score that is exact
+     */
+    public static final int EXACT = 3;
+
+    /**
+     * Bound of a score that is at least the stored score, after a beta cutoff
+     */
+    public static final int LOWER = 1;
+
+    /**
+     * Value returned by {@link #probe(long)} on a miss
+     */
+    public static final long MISS = 0L;
+
+    /**
+     * Bound of a score that is at most the stored score, when no move raised alpha
+     */
+    public static final int UPPER = 2;
+
+    /**
+     * Number of entries in a bucket
+     */
+    private static final int bucket_size = 4;
+
+    /**
+     * Number of bytes of an entry
+     */
+    private static final int entry_size = 2 * Long.BYTES;
+
+    /**
+     * Age of the current search, stamped on every entry it stores
+     */
+    private int age;
+
+    /**
+     * Mask of a bucket index
+     */
+    private final int mask;
+
+    /**
+     * Buckets, {@link #bucket_size} entries of two {@code long} each
+     */
+    private final long[] table;
+
+    /**
+     * Constructor
+     *
+     * @param bytes memory budget, rounded down to a power of two buckets
+     * @throws IllegalArgumentException if the budget cannot hold a bucket
+     */
+    public TranspositionTable(final long bytes) throws IllegalArgumentException {
+        if (bytes < bucket_size * entry_size)
+            throw new IllegalArgumentException("Illegal memory budget:\t" + bytes);
+        // Java arrays are indexed by int, so the table stops at 2^27 buckets
+        final long buckets = Long.highestOneBit(Math.min(bytes / (bucket_size * entry_size), 1L << 27));
+        this.mask = (int) buckets - 1;
+        this.table = new long[(int) buckets * bucket_size * 2];
+    }
+
+    /**
+     * Get the bound of an entry
+     *
+     * @param data entry returned by {@link #probe(long)}
+     * @return {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+     */
+    public static int bound(final long data) {
+        return (int) (data >>> 40) & 0x3;
+    }
+
+    /**
+     * Remove every entry
+     */
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+        this.age = 0;
+    }
+
+    /**
+     * Get the depth of an entry
+     *
+     * @param data entry returned by {@link #probe(long)}
+     * @return depth searched below the position
+     */
+    public static int depth(final long data) {
+        return (int) (data >>> 32) & 0xFF;
+    }
+
+    /**
+     * Get the share of the table used by the current search, sampled over the
+     * first thousand entries
+     *
+     * @return entries used per thousand
+     */
+    public int hashfull() {
+        final int sample = Math.min(1000, this.table.length / 2);
+        int used = 0;
+        for (int i = 0; i < sample; ++i) {
+            final long data = this.table[2 * i + 1];
+            used += data != MISS && (int) (data >>> 42 & 0xFF) == this.age ? 1 : 0;
+        }
+        return used * 1000 / sample;
+    }
+
+    /**
+     * Get the best move of an entry
+     *
+     * @param data entry returned by {@link #probe(long)}
+     * @return {@link MoveCode} without flags, or {@link MoveCode#NONE}
+     */
+    public static int move(final long data) {
+        return (int) data & MoveCode.MOVE_MASK;
+    }
+
+    /**
+     * Start a new search, so the entries of previous ones age
+     */
+    public void newSearch() {
+        this.age = (this.age + 1) & 0xFF;
+    }
+
+    /**
+     * Look up a position
+     *
+     * @param key Zobrist key of the position
+     * @return packed entry, or {@link #MISS}
+     */
+    public long probe(final long key) {
+        final int bucket = ((int) key & this.mask) * bucket_size * 2;
+        for (int i = bucket; i < bucket + bucket_size * 2; i += 2) {
+            final long data = this.table[i + 1];
+            if ((this.table[i] ^ data) == key && data != MISS)
+                return data;
+        }
+        return MISS;
+    }
+
+    /**
+     * Get the score of an entry
+     *
+     * @param data entry returned by {@link #probe(long)}
+     * @return score stored
+     */
+    public static int score(final long data) {
+        return (short) (data >>> 16);
+    }
+
+    /**
+     * Record the result of searching a position
+     *
+     * @param key   Zobrist key of the position
+     * @param move  best {@link MoveCode}, or {@link MoveCode#NONE}
+     * @param score score found, within a {@code short}
+     * @param depth depth searched below the position, below {@code 256}
+     * @param bound {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+     */
+    public void store(final long key, final int move, final int score, final int depth, final int bound) {
+        final int bucket = ((int) key & this.mask) * bucket_size * 2;
+        int victim = bucket, worst = Integer.MAX_VALUE;
+        for (int i = bucket; i < bucket + bucket_size * 2; i += 2) {
+            final long data = this.table[i + 1];
+            if ((this.table[i] ^ data) == key || data == MISS) {
+                victim = i;
+                break;
+            }
+            // Every search an entry is older costs it as much as a few plies of depth
+            final int value = depth(data) - 4 * ((this.age - (int) (data >>> 42 & 0xFF)) & 0xFF);
+            if (value < worst) {
+                victim = i;
+                worst = value;
+            }
+        }
+
+        final long data = (move & MoveCode.MOVE_MASK) | (long) (score & 0xFFFF) << 16 | (long) depth << 32
+                | (long) bound << 40 | (long) this.age << 42;
+        this.table[victim] = key ^ data;
+        this.table[victim + 1] = data;
+    }
+}
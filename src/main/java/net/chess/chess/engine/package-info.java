@@ -0,0 +1,5 @@
+/**
+ * Package for the search engine playing and analysing games on a
+ * {@link net.chess.chess.position.Position}.
+ */
+package net.chess.chess.engine;
@@ -2,7 +2,6 @@ package net.chess.chess.file;
 
 import net.chess.chess.ChessApplication;
 import net.chess.chess.board.Chessboard;
-import net.chess.chess.board.Move;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -32,13 +31,13 @@ public class PGNWriter {
             writer.write("[Result \"" + result + "\"]\n");
             writer.write("\n");
 
-            final List<Move> moves = board.getMoves();
+            final List<String> moves = board.getMoves();
 
             for (int i = 0; i < moves.size(); i += 2) {
-                final Move white = moves.get(i);
-                final Move black = i + 1 < moves.size() ? moves.get(i + 1) : null;
+                final String white = moves.get(i);
+                final String black = i + 1 < moves.size() ? moves.get(i + 1) : null;
                 final int move = i / 2 + 1;
-                writer.write(move + ". " + white.move() + (black == null ? "" : " " + black.move()));
+                writer.write(move + ". " + white + (black == null ? "" : " " + black));
                 writer.write(move % 7 == 0 ? "\n" : " ");
             }
 
@@ -34,23 +34,23 @@ public class Keys implements EventHandler<KeyEvent> {
     }
 
     private void keyPressed(final @NotNull KeyEvent e) {
-        ChessApplication.logger.info("Key pressed: " + e.getCode());
+        ChessApplication.logger.fine(() -> "Key pressed: " + e.getCode());
         switch (e.getCode()) {
             case KeyCode.UP -> {
-                ChessApplication.logger.info("Up arrow");
+                ChessApplication.logger.fine("Up arrow");
                 this.panel.board.loadInitialPosition();
             }
             case KeyCode.DOWN -> {
-                ChessApplication.logger.info("Down arrow");
+                ChessApplication.logger.fine("Down arrow");
                 this.panel.board.loadLastPosition();
             }
             case KeyCode.LEFT -> {
-                ChessApplication.logger.info("Left arrow");
+                ChessApplication.logger.fine("Left arrow");
                 this.panel.board.loadPreviousPosition();
             }
             case KeyCode.RIGHT -> {
                 this.panel.board.loadNextPosition();
-                ChessApplication.logger.info("Right arrow");
+                ChessApplication.logger.fine("Right arrow");
             }
             case KeyCode.ESCAPE -> this.panel.displayMenu();
             case KeyCode.C -> this.panel.controlsOption();
@@ -84,7 +84,7 @@ public record Mouse(Chessboard board, Tile tile) implements EventHandler<MouseEv
             return;
         }
 
-        ChessApplication.logger.info("Pressed :\t" + this.tile);
+        ChessApplication.logger.fine(() -> "Pressed :\t" + this.tile);
         this.board.updateSource(this.tile);
     }
 
@@ -104,13 +104,13 @@ public record Mouse(Chessboard board, Tile tile) implements EventHandler<MouseEv
 
         final int x = Math.floorDiv((int) e.getX(), ChessApplication.TILE_SIZE);
         final int y = Math.floorDiv((int) e.getY(), ChessApplication.TILE_SIZE);
-        ChessApplication.logger.info("Offset:\t(" + x + "," + y + ")");
+        ChessApplication.logger.fine(() -> "Offset:\t(" + x + "," + y + ")");
         final Tile t;
         try {
             t = this.board.getTileOffset(this.tile, x, y);
-            ChessApplication.logger.info("Released:\t" + t.toString() + "\n");
+            ChessApplication.logger.fine(() -> "Released:\t" + t.toString() + "\n");
         } catch (final ArrayIndexOutOfBoundsException aioobe) {
-            ChessApplication.logger.info("Released:\tOut of Bounds.");
+            ChessApplication.logger.fine("Released:\tOut of Bounds.");
             return;
         }
 
@@ -0,0 +1,138 @@
+package net.chess.chess.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link Handler} that hands records to another {@link Handler} on a
+ * background thread.<br>
+ * Logging a record only places it in a bounded queue, so the game never waits
+ * on the disk. The writer thread takes records in batches, publishes them to
+ * the target and flushes the target once per batch.<br>
+ * When the queue is full the record is dropped and counted rather than
+ * blocking the caller; the count is reported with the next batch.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public class AsyncHandler extends Handler {
+	/**
+	 * Maximum number of records written between two flushes
+	 */
+	private static final int batch_size = 64;
+
+	/**
+	 * Number of records dropped since the last batch
+	 */
+	private final AtomicLong dropped;
+
+	/**
+	 * Records waiting to be written
+	 */
+	private final BlockingQueue<LogRecord> queue;
+
+	/**
+	 * Determine if {@link #close()} was called
+	 */
+	private volatile boolean stopped;
+
+	/**
+	 * {@link Handler} the records are written to
+	 */
+	private final Handler target;
+
+	/**
+	 * Background thread writing {@link #queue} to {@link #target}
+	 */
+	private final Thread writer;
+
+	/**
+	 * Constructor
+	 *
+	 * @param target   {@link #target}
+	 * @param capacity number of records {@link #queue} may hold
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public AsyncHandler(final Handler target, final int capacity) throws IllegalArgumentException {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Illegal capacity:\t" + capacity);
+		this.target = Objects.requireNonNull(target, "Handler cannot be null");
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.dropped = new AtomicLong();
+		this.writer = new Thread(this::drain, "chess-log");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/**
+	 * Stop the writer once every queued record is written, then close
+	 * {@link #target}
+	 */
+	@Override
+	public void close() {
+		this.stopped = true;
+		this.writer.interrupt();
+		try {
+			this.writer.join();
+		} catch (final InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+		this.target.close();
+	}
+
+	/**
+	 * Write {@link #queue} to {@link #target} until {@link #close()} is called
+	 * and the queue is empty
+	 */
+	private void drain() {
+		final List<LogRecord> batch = new ArrayList<>(batch_size);
+		while (!this.stopped || !this.queue.isEmpty()) {
+			try {
+				batch.add(this.queue.take());
+			} catch (final InterruptedException ie) {
+				// Woken by close; write whatever is left
+				if (this.queue.isEmpty())
+					continue;
+			}
+			this.queue.drainTo(batch, batch_size - batch.size());
+
+			final long dropped = this.dropped.getAndSet(0L);
+			if (dropped != 0L)
+				this.target.publish(new LogRecord(Level.WARNING, "Dropped " + dropped + " log records"));
+			for (final LogRecord record : batch)
+				this.target.publish(record);
+			this.target.flush();
+			batch.clear();
+		}
+	}
+
+	/**
+	 * Flush {@link #target}.<br>
+	 * Records still queued are flushed by the writer once written.
+	 */
+	@Override
+	public void flush() {
+		this.target.flush();
+	}
+
+	/**
+	 * Queue a record for the writer.<br>
+	 * The record is dropped if {@link #queue} is full or this is closed.
+	 *
+	 * @param record {@link LogRecord} to write
+	 */
+	@Override
+	public void publish(final LogRecord record) {
+		if (this.stopped || !this.isLoggable(record))
+			return;
+		if (!this.queue.offer(record))
+			this.dropped.incrementAndGet();
+	}
+}
@@ -0,0 +1,59 @@
+package net.chess.chess.logging;
+
+import java.io.IOException;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holder of the {@link Logger} of the game.<br>
+ * Records are written to {@code ./chess.log} through an {@link AsyncHandler},
+ * so logging never waits on the disk.<br>
+ * The level is read from the {@code chess.log.level} system property and is
+ * {@link Level#INFO} by default. Per-move tracing is logged at
+ * {@link Level#FINE} through message suppliers, so it costs nothing unless
+ * that level is enabled with {@code -Dchess.log.level=FINE}.<br>
+ * This class does not depend on JavaFX, so headless code may log through it.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class ChessLogger {
+	/**
+	 * {@link Logger} of the game
+	 */
+	public static final Logger logger;
+
+	/**
+	 * Number of records the {@link AsyncHandler} may hold
+	 */
+	private static final int capacity = 8192;
+
+	static {
+		final FileHandler file;
+		try {
+			file = new FileHandler("./chess.log", false);
+			file.setFormatter(new CustomFormatter());
+		} catch (final IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		final AsyncHandler handler = new AsyncHandler(file, capacity);
+		final Level level = Level.parse(System.getProperty("chess.log.level", Level.INFO.getName()));
+		handler.setLevel(level);
+
+		logger = Logger.getLogger("net.chess.chess");
+		logger.setLevel(level);
+		logger.setUseParentHandlers(false);
+		logger.addHandler(handler);
+
+		// Write whatever is still queued when the game exits
+		Runtime.getRuntime().addShutdownHook(new Thread(handler::close, "chess-log-close"));
+	}
+
+	/**
+	 * Constructor
+	 */
+	private ChessLogger() {
+	}
+}
@@ -0,0 +1,273 @@
+package net.chess.chess.perft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import net.chess.chess.position.MoveCode;
+import net.chess.chess.position.MoveGenerator;
+import net.chess.chess.position.MoveList;
+import net.chess.chess.position.Position;
+
+/**
+ * Perft, short for performance test, counts the leaf nodes of the move tree
+ * of a {@link Position} to a fixed depth.<br>
+ * Comparing the counts against {@link ReferencePosition} checks the
+ * {@link MoveGenerator}, and timing them measures its throughput.<br>
+ * Deep counts may be split over a {@link ForkJoinPool}, each task walking its
+ * own copy of the position.<br>
+ * An optional {@link PerftTable} caches subtree counts, so positions reached
+ * again through transpositions are counted once.<br>
+ * Read more <a href="https://www.chessprogramming.org/Perft">here</a>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Perft {
+    /**
+     * Depth of the reference suite when none is given
+     */
+    private static final int default_depth = 4;
+
+    /**
+     * Plies below the root whose moves become tasks of their own
+     */
+    private static final int split_depth = 2;
+
+    /**
+     * {@link MoveList} of each ply, reused by every node of that ply
+     */
+    private MoveList[] lists;
+
+    /**
+     * {@link Position} walked by this, made and unmade in place
+     */
+    private final Position position;
+
+    /**
+     * {@link PerftTable} shared by every thread, or {@code null}
+     */
+    private final PerftTable table;
+
+    /**
+     * Constructor
+     *
+     * @param position {@link Position} to count from, copied so the original is untouched
+     */
+    public Perft(final Position position) {
+        this(position, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param position {@link Position} to count from, copied so the original is untouched
+     * @param table    {@link #table}, {@code null} to count every node
+     */
+    public Perft(final Position position, final PerftTable table) {
+        this.position = new Position(Objects.requireNonNull(position, "Position cannot be null"));
+        this.table = table;
+        this.lists = new MoveList[0];
+    }
+
+    /**
+     * Count the leaf nodes to a depth
+     *
+     * @param depth number of plies to walk
+     * @return number of leaf nodes
+     * @throws IllegalArgumentException if the depth is negative
+     */
+    public long count(final int depth) throws IllegalArgumentException {
+        if (depth < 0)
+            throw new IllegalArgumentException("Illegal depth:\t" + depth);
+        this.reserve(depth);
+        return this.walk(depth, 0);
+    }
+
+    /**
+     * Count the leaf nodes to a depth on several threads
+     *
+     * @param depth   number of plies to walk
+     * @param threads number of threads of the {@link ForkJoinPool}
+     * @return number of leaf nodes
+     * @throws IllegalArgumentException if the depth is negative or there is no thread
+     */
+    public long count(final int depth, final int threads) throws IllegalArgumentException {
+        if (depth < 0)
+            throw new IllegalArgumentException("Illegal depth:\t" + depth);
+        if (threads < 1)
+            throw new IllegalArgumentException("Illegal thread count:\t" + threads);
+        if (threads == 1)
+            return this.count(depth);
+
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.invoke(new PerftTask(new Position(this.position), this.table, depth, split_depth));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Count the leaf nodes to a depth below each root move
+     *
+     * @param depth number of plies to walk, including the root move
+     * @return leaf nodes of each root move in coordinate notation, in generation order
+     * @throws IllegalArgumentException if the depth is below {@code 1}
+     */
+    public Map<String, Long> divide(final int depth) throws IllegalArgumentException {
+        return this.divide(depth, 1);
+    }
+
+    /**
+     * Count the leaf nodes to a depth below each root move on several threads
+     *
+     * @param depth   number of plies to walk, including the root move
+     * @param threads number of threads of the {@link ForkJoinPool}
+     * @return leaf nodes of each root move in coordinate notation, in generation order
+     * @throws IllegalArgumentException if the depth is below {@code 1} or there is no thread
+     */
+    public Map<String, Long> divide(final int depth, final int threads) throws IllegalArgumentException {
+        if (depth < 1)
+            throw new IllegalArgumentException("Illegal depth:\t" + depth);
+        if (threads < 1)
+            throw new IllegalArgumentException("Illegal thread count:\t" + threads);
+
+        final MoveList moves = new MoveList();
+        MoveGenerator.generate(this.position, moves);
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            final List<ForkJoinTask<Long>> tasks = new ArrayList<>(moves.size());
+            for (int i = 0; i < moves.size(); ++i) {
+                final Position child = new Position(this.position);
+                child.make(moves.get(i));
+                tasks.add(pool.submit(new PerftTask(child, this.table, depth - 1, threads == 1 ? 0 : split_depth - 1)));
+            }
+
+            final Map<String, Long> divide = new LinkedHashMap<>();
+            for (int i = 0; i < moves.size(); ++i)
+                divide.put(MoveCode.toString(moves.get(i)), tasks.get(i).join());
+            return divide;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Run perft from the command line.<br>
+     * With no argument, every {@link ReferencePosition} is checked to depth
+     * {@link #default_depth}. With a depth, they are checked to that depth
+     * where it is known. With a depth followed by Forsyth-Edwards Notation,
+     * that position is divided to that depth.<br>
+     * Leading options are {@code --threads n} to run on {@code n} threads
+     * instead of one, and {@code --hash m} to cache counts in a
+     * {@link PerftTable} of {@code m} megabytes.
+     *
+     * @param args optional options, optional depth, then optional Forsyth-Edwards Notation
+     */
+    public static void main(final String[] args) {
+        int first = 0, threads = 1;
+        long hash = 0L;
+        for (; first + 1 < args.length && args[first].startsWith("--"); first += 2)
+            switch (args[first]) {
+                case "--hash" -> hash = Long.parseLong(args[first + 1]) << 20;
+                case "--threads" -> threads = Integer.parseInt(args[first + 1]);
+                default -> throw new IllegalArgumentException("Illegal option:\t" + args[first]);
+            }
+        final PerftTable table = hash == 0L ? null : new PerftTable(hash);
+
+        final int depth = args.length > first ? Integer.parseInt(args[first]) : default_depth;
+        if (args.length > first + 1) {
+            final String fen = String.join(" ", Arrays.copyOfRange(args, first + 1, args.length));
+            final Perft perft = new Perft(new Position(fen), table);
+            final long start = System.nanoTime();
+            long nodes = 0L;
+            for (final Map.Entry<String, Long> entry : perft.divide(depth, threads).entrySet()) {
+                System.out.println(entry.getKey() + ":\t" + entry.getValue());
+                nodes += entry.getValue();
+            }
+            report(nodes, System.nanoTime() - start);
+            return;
+        }
+
+        boolean passed = true;
+        for (final ReferencePosition reference : ReferencePosition.values()) {
+            final int target = Math.min(depth, reference.getMaxDepth());
+            final long start = System.nanoTime();
+            final long nodes = new Perft(new Position(reference.fen), table).count(target, threads);
+            final long elapsed = System.nanoTime() - start;
+            final boolean match = nodes == reference.getNodes(target);
+            passed &= match;
+            System.out.println(reference + " depth " + target + ":\t" + nodes + (match ? "\tOK"
+                    : "\tFAIL, expected " + reference.getNodes(target)));
+            report(nodes, elapsed);
+        }
+        if (!passed)
+            System.exit(1);
+    }
+
+    /**
+     * Print the node count, time and nodes per second of a run
+     *
+     * @param nodes   number of leaf nodes counted
+     * @param elapsed duration of the run in nanoseconds
+     */
+    private static void report(final long nodes, final long elapsed) {
+        System.out.printf("Nodes:\t%d%nTime:\t%.3f s%nNodes/s:\t%.0f%n", nodes, elapsed / 1e9,
+                nodes * 1e9 / Math.max(elapsed, 1L));
+    }
+
+    /**
+     * Make sure a {@link MoveList} exists for every ply to a depth
+     *
+     * @param depth deepest ply needed
+     */
+    private void reserve(final int depth) {
+        if (this.lists.length >= depth)
+            return;
+        final MoveList[] lists = Arrays.copyOf(this.lists, depth);
+        for (int ply = this.lists.length; ply < depth; ++ply)
+            lists[ply] = new MoveList();
+        this.lists = lists;
+    }
+
+    /**
+     * Count the leaf nodes below the current position
+     *
+     * @param depth plies left to walk
+     * @param ply   plies walked from the root
+     * @return number of leaf nodes
+     */
+    private long walk(final int depth, final int ply) {
+        if (depth == 0)
+            return 1L;
+
+        final MoveList moves = this.lists[ply];
+        MoveGenerator.generate(this.position, moves);
+        // Every legal move is a leaf, so they need not be played
+        if (depth == 1)
+            return moves.size();
+
+        final long key = this.position.getKey();
+        if (this.table != null) {
+            final long cached = this.table.probe(key, depth);
+            if (cached != PerftTable.MISS)
+                return cached;
+        }
+
+        long nodes = 0L;
+        for (int i = 0; i < moves.size(); ++i) {
+            this.position.make(moves.get(i));
+            nodes += this.walk(depth - 1, ply + 1);
+            this.position.unmake();
+        }
+        if (this.table != null)
+            this.table.store(key, depth, nodes);
+        return nodes;
+    }
+}
@@ -0,0 +1,79 @@
+package net.chess.chess.perft;
+
+/**
+ * Hash table of perft subtree counts, keyed by
+ * {@link net.chess.chess.position.Zobrist} key and depth.<br>
+ * Each entry is two {@code long}: the key exclusive or the data, then the data
+ * packing the node count above the depth. Entries are read and written without
+ * locks; an entry torn by two threads writing at once no longer verifies
+ * against its key, so it reads as a miss instead of a wrong count.<br>
+ * A new entry always replaces the one in its slot.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class PerftTable {
+    /**
+     * Value returned by {@link #probe(long, int)} on a miss
+     */
+    public static final long MISS = -1L;
+
+    /**
+     * Number of bytes of an entry
+     */
+    private static final int entry_size = 2 * Long.BYTES;
+
+    /**
+     * Mask of an entry index
+     */
+    private final int mask;
+
+    /**
+     * Entries, two {@code long} each
+     */
+    private final long[] table;
+
+    /**
+     * Constructor
+     *
+     * @param bytes memory budget, rounded down to a power of two entries
+     * @throws IllegalArgumentException if the budget cannot hold an entry
+     */
+    public PerftTable(final long bytes) throws IllegalArgumentException {
+        if (bytes < entry_size)
+            throw new IllegalArgumentException("Illegal memory budget:\t" + bytes);
+        // Java arrays are indexed by int, so the table stops at 2^30 entries
+        final long entries = Long.highestOneBit(Math.min(bytes / entry_size, 1L << 30));
+        this.mask = (int) entries - 1;
+        this.table = new long[(int) entries * 2];
+    }
+
+    /**
+     * Look up the node count of a position
+     *
+     * @param key   Zobrist key of the position
+     * @param depth depth counted below the position
+     * @return node count, or {@link #MISS}
+     */
+    public long probe(final long key, final int depth) {
+        final int index = ((int) key & this.mask) << 1;
+        final long data = this.table[index + 1];
+        if ((this.table[index] ^ data) != key || (data & 0xFF) != depth)
+            return MISS;
+        return data >>> 8;
+    }
+
+    /**
+     * Record the node count of a position
+     *
+     * @param key   Zobrist key of the position
+     * @param depth depth counted below the position, below {@code 256}
+     * @param nodes node count, below {@code 2^56}
+     */
+    public void store(final long key, final int depth, final long nodes) {
+        final int index = ((int) key & this.mask) << 1;
+        final long data = nodes << 8 | depth;
+        this.table[index] = key ^ data;
+        this.table[index + 1] = data;
+    }
+}
@@ -0,0 +1,83 @@
+package net.chess.chess.perft;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import net.chess.chess.position.MoveGenerator;
+import net.chess.chess.position.MoveList;
+import net.chess.chess.position.Position;
+
+/**
+ * Fork/join task counting the leaf nodes below a {@link Position}.<br>
+ * Near the root each move becomes a task of its own, working on its own copy
+ * of the position; deeper plies are counted on a single thread by
+ * {@link Perft}.<br>
+ * Tasks are never serialized, so the state they work on is transient.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+final class PerftTask extends RecursiveTask<Long> {
+    /**
+     * Version of the serialized form inherited from {@link RecursiveTask}
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Plies left to walk
+     */
+    private final int depth;
+
+    /**
+     * {@link Position} owned by this task
+     */
+    private final transient Position position;
+
+    /**
+     * Plies left that are still split into tasks
+     */
+    private final int split;
+
+    /**
+     * {@link PerftTable} shared by every task, or {@code null}
+     */
+    private final transient PerftTable table;
+
+    /**
+     * Constructor
+     *
+     * @param position {@link #position}, not shared with any other task
+     * @param table    {@link #table}
+     * @param depth    {@link #depth}
+     * @param split    {@link #split}
+     */
+    PerftTask(final Position position, final PerftTable table, final int depth, final int split) {
+        this.position = position;
+        this.table = table;
+        this.depth = depth;
+        this.split = split;
+    }
+
+    @Override
+    protected Long compute() {
+        if (this.split == 0 || this.depth <= 2)
+            return new Perft(this.position, this.table).count(this.depth);
+
+        final MoveList moves = new MoveList();
+        MoveGenerator.generate(this.position, moves);
+        final List<PerftTask> tasks = new ArrayList<>(moves.size());
+        for (int i = 0; i < moves.size(); ++i) {
+            final Position child = new Position(this.position);
+            child.make(moves.get(i));
+            tasks.add(new PerftTask(child, this.table, this.depth - 1, this.split - 1));
+        }
+
+        long nodes = 0L;
+        for (final PerftTask task : invokeAll(tasks))
+            nodes += task.join();
+        return nodes;
+    }
+}
@@ -0,0 +1,90 @@
+package net.chess.chess.perft;
+
+import net.chess.chess.position.Position;
+
+/**
+ * Standard perft positions with their known node counts.<br>
+ * Read more <a href="https://www.chessprogramming.org/Perft_Results">here</a>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public enum ReferencePosition {
+    /**
+     * Initial position
+     */
+    Initial(Position.START, 20L, 400L, 8_902L, 197_281L, 4_865_609L, 119_060_324L),
+
+    /**
+     * Middle game rich in castling, en passant and promotions
+     */
+    Kiwipete("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", 48L, 2_039L, 97_862L,
+            4_085_603L, 193_690_690L),
+
+    /**
+     * Rook endgame full of discovered checks and pinned en passant captures
+     */
+    Endgame("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", 14L, 191L, 2_812L, 43_238L, 674_624L, 11_030_083L,
+            178_633_661L),
+
+    /**
+     * Position with promotions and castling under attack
+     */
+    Promotion("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", 6L, 264L, 9_467L, 422_333L,
+            15_833_292L),
+
+    /**
+     * Position catching underpromotion and castling bugs
+     */
+    Underpromotion("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", 44L, 1_486L, 62_379L,
+            2_103_487L, 89_941_194L),
+
+    /**
+     * Symmetrical middle game
+     */
+    Symmetrical("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10", 46L, 2_079L,
+            89_890L, 3_894_594L, 164_075_551L);
+
+    /**
+     * Forsyth-Edwards Notation of the position
+     */
+    public final String fen;
+
+    /**
+     * Known node count of each depth, starting at depth {@code 1}
+     */
+    private final long[] nodes;
+
+    /**
+     * Constructor
+     *
+     * @param fen   {@link #fen}
+     * @param nodes {@link #nodes}
+     */
+    private ReferencePosition(final String fen, final long... nodes) {
+        this.fen = fen;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Get the deepest depth with a known node count
+     *
+     * @return deepest known depth
+     */
+    public int getMaxDepth() {
+        return this.nodes.length;
+    }
+
+    /**
+     * Get the known node count of a depth
+     *
+     * @param depth depth from {@code 1} to {@link #getMaxDepth()}
+     * @return number of leaf nodes at that depth
+     * @throws IllegalArgumentException if the depth is not known
+     */
+    public long getNodes(final int depth) throws IllegalArgumentException {
+        if (depth < 1 || depth > this.nodes.length)
+            throw new IllegalArgumentException("Illegal depth:\t" + depth);
+        return this.nodes[depth - 1];
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Package for perft, the move generation benchmark and correctness check.
+ */
+package net.chess.chess.perft;
\ No newline at end of file
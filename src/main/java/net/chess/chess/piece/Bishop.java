@@ -1,11 +1,5 @@
 package net.chess.chess.piece;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-
-import net.chess.chess.board.Tile;
-
 /**
  * The bishop (&#x2657;, &#x265D;) is a piece in the game of chess. <br>
  * It moves and captures along diagonals without jumping over intervening
@@ -31,34 +25,11 @@ public class Bishop extends Piece {
 		super(color, PieceType.Bishop);
 	}
 
-	@Override
-	public List<Tile> getTileTraversed(final Tile[][] board, final Tile src, final Tile dest) {
-		Objects.requireNonNull(board, "Bishop must be on a board");
-		Objects.requireNonNull(src, "Source tile cannot be null");
-		Objects.requireNonNull(dest, "Destination tile cannot be null");
-
-		final List<Tile> temp = new ArrayList<>();
-		final int dx = dest.file < src.file ? -1 : 1, dy = dest.rank < src.rank ? -1 : 1;
-		for (int i = 0; i < Math.abs(src.file - dest.file); ++i)
-			temp.add(board[src.rank + i * dy][src.file + i * dx]);
-
-		return temp;
-	}
-
 	@Override
 	public int getValue() {
 		return 3;
 	}
 
-	@Override
-	public boolean isLegal(final Tile source, final Tile destination) {
-		Objects.requireNonNull(source, "Source file cannot be null");
-		Objects.requireNonNull(destination, "Destination tile cannot be null");
-		if (source.equals(destination))
-			return false;
-		return Math.abs(source.file - destination.file) == Math.abs(source.rank - destination.rank);
-	}
-
 	@Override
 	public void reset() {
 	}
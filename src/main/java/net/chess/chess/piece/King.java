@@ -1,11 +1,8 @@
 package net.chess.chess.piece;
 
-import net.chess.chess.ChessApplication;
-import net.chess.chess.board.Tile;
+import net.chess.chess.logging.ChessLogger;
 import net.chess.chess.player.Player;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -90,65 +87,11 @@ public class King extends Piece {
 		return this.check;
 	}
 
-	/**
-	 * Get the surrounding {@link Tile} of this
-	 *
-	 * @param board 2d primitive type array storing the board
-	 * @return surrounding {@link Tile}
-	 */
-	public Tile[] getSurround(final Tile[][] board) {
-		final List<Tile> surround = new ArrayList<>();
-		final int x = this.tile.file, y = this.tile.rank;
-		for (int dy = -1; dy < 2; ++dy)
-			for (int dx = -1; dx < 2; ++dx)
-				try {
-					final Tile tile = board[y + dy][x + dx];
-					if (!this.isAlly(tile.getPiece()))
-						surround.add(tile);
-				} catch (final ArrayIndexOutOfBoundsException aioobe) {
-					continue;
-				}
-
-		return surround.toArray(new Tile[0]);
-	}
-
-	@Override
-	public List<Tile> getTileTraversed(final Tile[][] board, final Tile src, final Tile dest) {
-		Objects.requireNonNull(board, "King must be on a board");
-		Objects.requireNonNull(src, "Source tile cannot be null");
-		Objects.requireNonNull(dest, "Destination tile cannot be null");
-		return empty;
-	}
-
 	@Override
 	public int getValue() throws IllegalStateException {
 		throw new IllegalStateException("King cannot be captured");
 	}
 
-	/**
-	 * Determine if the King is in Check
-	 *
-	 * @return true if the King is in Check<br>
-	 *         false if the King is not in Check
-	 */
-	public boolean isCheck() {
-		return this.check == CheckState.Check;
-	}
-
-	@Override
-	public boolean isLegal(final Tile src, final Tile dest) {
-		Objects.requireNonNull(src, "Source file cannot be null");
-		Objects.requireNonNull(dest, "Destination tile cannot be null");
-		if (src.equals(dest))
-			return false;
-		final int dx = Math.abs(src.file - dest.file), dy = Math.abs(src.rank - dest.rank);
-		if (dy == 0 && !this.isCheck()) {
-			if ((dest.file == 6 && this.king) || (dest.file == 2 && this.queen))
-				return true;
-		}
-		return dx <= 1 && dy <= 1;
-	}
-
 	@Override
 	public void reset() {
 		this.king = true;
@@ -164,7 +107,7 @@ public class King extends Piece {
 	 */
 	public void setCastle(final CastleState castle) {
 		Objects.requireNonNull(castle, "CastleState cannot be null");
-		ChessApplication.logger.info(String.format("Setting %s King.castle to %s", this.color.name(), castle.name()));
+		ChessLogger.logger.fine(() -> String.format("Setting %s King.castle to %s", this.color.name(), castle.name()));
 		this.castle = castle;
 	}
 
@@ -175,7 +118,7 @@ public class King extends Piece {
 	 */
 	public void setCheck(final CheckState state) {
 		Objects.requireNonNull(state, "CheckState cannot be null");
-		ChessApplication.logger.info(String.format("Setting %s King.check to %s", this.color.name(), state.name()));
+		ChessLogger.logger.fine(() -> String.format("Setting %s King.check to %s", this.color.name(), state.name()));
 		this.check = state;
 	}
 
@@ -185,7 +128,7 @@ public class King extends Piece {
 	 * @param bool new {@link #king} value
 	 */
 	public void setKingside(final boolean bool) {
-		ChessApplication.logger.info(String.format("Setting %s King.king to %b", this.color.name(), bool));
+		ChessLogger.logger.fine(() -> String.format("Setting %s King.king to %b", this.color.name(), bool));
 		this.king = bool;
 	}
 
@@ -195,7 +138,7 @@ public class King extends Piece {
 	 * @param bool new {@link #queen} value
 	 */
 	public void setQueenside(final boolean bool) {
-		ChessApplication.logger.info(String.format("Setting %s King.queen to %b", this.color.name(), bool));
+		ChessLogger.logger.fine(() -> String.format("Setting %s King.queen to %b", this.color.name(), bool));
 		this.queen = bool;
 	}
 
@@ -1,8 +1,5 @@
 package net.chess.chess.piece;
 
-import java.util.List;
-import java.util.Objects;
-
 import net.chess.chess.board.Tile;
 import net.chess.chess.player.Player;
 
@@ -28,31 +25,11 @@ public class Knight extends Piece {
 		super(color, PieceType.Knight);
 	}
 
-	@Override
-	public List<Tile> getTileTraversed(final Tile[][] board, final Tile src, final Tile dest) {
-		Objects.requireNonNull(board, "Knight must be on a board");
-		Objects.requireNonNull(src, "Source tile cannot be null");
-		Objects.requireNonNull(dest, "Destination tile cannot be null");
-
-		return empty;
-	}
-
 	@Override
 	public int getValue() {
 		return 3;
 	}
 
-	@Override
-	public boolean isLegal(final Tile src, final Tile dest) {
-		Objects.requireNonNull(src, "Source file cannot be null");
-		Objects.requireNonNull(dest, "Destination tile cannot be null");
-		if (src.equals(dest))
-			return false;
-		final int dx = Math.abs(src.file - dest.file);
-		final int dy = Math.abs(src.rank - dest.rank);
-		return dx == 2 && dy == 1 || dx == 1 && dy == 2;
-	}
-
 	@Override
 	public void reset() {
 	}
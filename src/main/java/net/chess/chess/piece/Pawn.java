@@ -1,8 +1,5 @@
 package net.chess.chess.piece;
 
-import java.util.List;
-import java.util.Objects;
-
 import net.chess.chess.board.Tile;
 
 /**
@@ -21,16 +18,6 @@ import net.chess.chess.board.Tile;
  * @version 2022 05 23
  */
 public class Pawn extends Piece {
-	/**
-	 * Determine if this pawn moved diagonally.
-	 */
-	private boolean diagonal;
-
-	/**
-	 * Can this pawn be captured by en passant
-	 */
-	private boolean en_passant;
-
 	/**
 	 * Starting file of this.
 	 */
@@ -47,145 +34,18 @@ public class Pawn extends Piece {
 		this.starting_File = file;
 	}
 
-	/**
-	 * Determine {@link #en_passant}
-	 *
-	 * @return {@link #en_passant}
-	 */
-	public boolean en_passant() {
-		return this.en_passant;
-	}
-
-	/**
-	 * Get {@link #diagonal}
-	 *
-	 * @return {@link #diagonal}
-	 */
-	public boolean getDiagonal() {
-		return this.diagonal;
-	}
-
-	@Override
-	public List<Tile> getTileTraversed(final Tile[][] board, final Tile src, final Tile dest) {
-		Objects.requireNonNull(board, "Pawn must be on board");
-		Objects.requireNonNull(src, "Pawn must have a source");
-		Objects.requireNonNull(dest, "Pawn must have a destination");
-
-        return switch (this.color) {
-            case Black -> dest.rank - src.rank == 2 ? List.of(src, board[src.rank + 1][src.file]) : empty;
-            case White -> src.rank - dest.rank == 2 ? List.of(src, board[src.rank - 1][src.file]) : empty;
-        };
-	}
-
 	@Override
 	public int getValue() {
 		return 1;
 	}
 
-	@Override
-	public boolean isLegal(final Tile src, final Tile dest) {
-		Objects.requireNonNull(src, "Source file cannot be null");
-		Objects.requireNonNull(dest, "Destination tile cannot be null");
-		if (src.equals(dest))
-			return false;
-
-		final Piece dest_piece = dest.getPiece();
-		final boolean dest_empty = dest_piece == null;
-
-		final boolean diagonal = Math.abs(src.file - dest.file) == 1;
-		switch (this.color) {
-		case Black:
-			// Check if capturing diagonally
-
-			this.diagonal = diagonal;
-			if (this.diagonal) {
-				if (src.rank - dest.rank == -1) {
-					// Normal Capturing
-					if (!dest_empty)
-						return !this.isAlly(dest_piece);
-
-					// En passant
-					final Piece up = dest.getUp().getPiece();
-					if (this.isAlly(up))
-						return false;
-					if (up instanceof Pawn)
-						return ((Pawn) up).en_passant();
-
-					return false;
-				}
-				return false;
-			}
-
-			// Moving two squares on the first move
-			if (src.rank == 1) {
-				if (dest.rank - src.rank == 1 || dest.rank - src.rank == 2) {
-					this.en_passant = dest.rank - src.rank == 2;
-					return src.file == dest.file && dest_empty;
-				}
-				return false;
-			}
-
-			// Moving one square
-			if (src.rank - dest.rank == -1 && src.file == dest.file)
-				return dest_empty;
-
-			return false;
-		case White:
-			// Check if capturing diagonally
-			this.diagonal = diagonal;
-			if (this.diagonal) {
-				if (src.rank - dest.rank == 1) {
-					// Normal capturing
-					if (!dest_empty)
-						return !this.isAlly(dest_piece);
-
-					// En passant
-					final Piece down = dest.getDown().getPiece();
-					if (this.isAlly(down))
-						return false;
-					if (down instanceof Pawn)
-						return ((Pawn) down).en_passant();
-
-					return false;
-				}
-
-				return false;
-			}
-
-			// Moving two squares on the first move
-			if (src.rank == 6)
-				if (src.rank - dest.rank == 1 || src.rank - dest.rank == 2) {
-					this.en_passant = src.rank - dest.rank == 2;
-					return src.file == dest.file && dest_empty;
-				}
-
-			// Moving one square
-			if (src.rank - dest.rank == 1 && src.file == dest.file)
-				return dest_empty;
-
-			return false;
-		default:
-			throw new IllegalStateException("Illegal PieceColor " + this.color.name());
-		}
-	}
-
 	@Override
 	public void reset() {
-		this.en_passant = false;
-	}
-
-	/**
-	 * Set {@link #en_passant}
-	 *
-	 * @param en_passant new {@link #en_passant} value
-	 */
-	public void setEnPassant(final boolean en_passant) {
-		this.en_passant = en_passant;
 	}
 
 	@Override
 	public String toString() {
-		return "Pawn [diagonal=" + this.diagonal + ", en_passant=" + this.en_passant + ", starting_File="
-				+ this.starting_File + ", color=" + this.color + ", type=" + this.type + ", tile=" + this.tile + "]";
+		return "Pawn [starting_File=" + this.starting_File + ", color=" + this.color + ", type=" + this.type + ", tile="
+				+ this.tile + "]";
 	}
 }
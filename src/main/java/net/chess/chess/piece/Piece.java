@@ -2,8 +2,6 @@ package net.chess.chess.piece;
 
 import net.chess.chess.board.Tile;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -25,12 +23,6 @@ import java.util.Objects;
  * @version 2022 05 23
  */
 public abstract class Piece {
-    /**
-     * {@link List} of {@link Tile}.<br>
-     * This holds no elements.
-     */
-    protected static final List<Tile> empty = new ArrayList<>(0);
-
     /**
      * {@link PieceColor}
      */
@@ -66,16 +58,6 @@ public abstract class Piece {
         return this.tile;
     }
 
-    /**
-     * Get a primitive type array of the tiles traversed from src to dest
-     *
-     * @param board 2d primitive type array holding the board
-     * @param src   source {@link Tile}
-     * @param dest  destination {@link Tile}
-     * @return {@link Tile}s traversed
-     */
-    public abstract List<Tile> getTileTraversed(Tile[][] board, Tile src, Tile dest);
-
     /**
      * Return point value of each piece.<br>
      * Calling this method on the {@link King} will throw
@@ -98,16 +80,6 @@ public abstract class Piece {
         return this.color == piece.color;
     }
 
-    /**
-     * Determine if a piece move is legal
-     *
-     * @param src  {@link Tile} where the piece came from
-     * @param dest {@link Tile} where the piece is going
-     * @return true is a legal move is done<br>
-     * false is not a legal move
-     */
-    public abstract boolean isLegal(Tile src, Tile dest);
-
     /**
      * Set any piece attributes to their default values.
      */
@@ -1,6 +1,7 @@
 package net.chess.chess.piece;
 
 import javafx.scene.paint.Color;
+import net.chess.chess.position.PieceCode;
 
 /**
  * Enumerated type of the Piece Color
@@ -12,12 +13,17 @@ public enum PieceColor {
     /**
      * The Black Pieces
      */
-    Black(0x2c, 0x2c, 0x2c),
+    Black(0x2c, 0x2c, 0x2c, PieceCode.BLACK),
 
     /**
      * The White Pieces
      */
-    White(0xd3, 0xd3, 0xd3);
+    White(0xd3, 0xd3, 0xd3, PieceCode.WHITE);
+
+    /**
+     * {@link PieceCode} colour of this
+     */
+    public final int code;
 
     /**
      * {@link Color} of this
@@ -30,9 +36,11 @@ public enum PieceColor {
      * @param red   red value
      * @param green green value
      * @param blue  blue value
+     * @param code  {@link #code}
      */
-    PieceColor(final int red, final int green, final int blue) {
+    PieceColor(final int red, final int green, final int blue, final int code) {
         this.color = Color.rgb(red, green, blue);
+        this.code = code;
     }
 
     /**
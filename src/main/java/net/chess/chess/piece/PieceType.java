@@ -1,5 +1,7 @@
 package net.chess.chess.piece;
 
+import net.chess.chess.position.PieceCode;
+
 /**
  * Enumerated type to determine Piece type
  *
@@ -7,14 +9,20 @@ package net.chess.chess.piece;
  * @version 2022 03 15
  */
 public enum PieceType {
-    Bishop('\u2657', '\u265D', 'B'), King('\u2654', '\u265A', 'K'), Knight('\u2658', '\u265E', 'N'),
-    Pawn('\u2659', '\u265F', 'P'), Queen('\u2655', '\u265B', 'Q'), Rook('\u2656', '\u265C', 'R');
+    Bishop('\u2657', '\u265D', 'B', PieceCode.BISHOP), King('\u2654', '\u265A', 'K', PieceCode.KING),
+    Knight('\u2658', '\u265E', 'N', PieceCode.KNIGHT), Pawn('\u2659', '\u265F', 'P', PieceCode.PAWN),
+    Queen('\u2655', '\u265B', 'Q', PieceCode.QUEEN), Rook('\u2656', '\u265C', 'R', PieceCode.ROOK);
 
     /**
      * Representation of this piece in Algebraic Notation
      */
     public final char an;
 
+    /**
+     * {@link PieceCode} type of this
+     */
+    public final int code;
+
     /**
      * Unicode character for the black piece
      */
@@ -31,10 +39,26 @@ public enum PieceType {
      * @param white {@link #white}
      * @param black {@link #black}
      * @param an    {@link #an}
+     * @param code  {@link #code}
      */
-    private PieceType(final char white, final char black, final char an) {
+    private PieceType(final char white, final char black, final char an, final int code) {
         this.white = white;
         this.black = black;
         this.an = an;
+        this.code = code;
+    }
+
+    /**
+     * Get the {@link PieceType} of a {@link PieceCode} type
+     *
+     * @param code one of {@link PieceCode#PAWN} to {@link PieceCode#KING}
+     * @return {@link PieceType} with that {@link #code}
+     * @throws IllegalArgumentException if no {@link PieceType} has that code
+     */
+    public static PieceType of(final int code) throws IllegalArgumentException {
+        for (final PieceType type : values())
+            if (type.code == code)
+                return type;
+        throw new IllegalArgumentException("Illegal PieceCode type:\t" + code);
     }
 }
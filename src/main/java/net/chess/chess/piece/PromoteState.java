@@ -1,6 +1,7 @@
 package net.chess.chess.piece;
 
 import net.chess.chess.player.Player;
+import net.chess.chess.position.PieceCode;
 
 /**
  * <p>
@@ -20,25 +21,53 @@ public enum PromoteState {
 	/**
 	 * {@link Pawn} promote to {@link Bishop}
 	 */
-	Bishop,
+	Bishop(PieceCode.BISHOP),
 
 	/**
 	 * {@link Pawn} did not promote
 	 */
-	Fail,
+	Fail(PieceCode.NONE),
 
 	/**
 	 * {@link Pawn} promote to {@link Knight}
 	 */
-	Knight,
+	Knight(PieceCode.KNIGHT),
 
 	/**
 	 * {@link Pawn} promote to {@link Queen}
 	 */
-	Queen,
+	Queen(PieceCode.QUEEN),
 
 	/**
 	 * {@link Pawn} promote to {@link Rook}
 	 */
-	Rook;
+	Rook(PieceCode.ROOK);
+
+	/**
+	 * {@link PieceCode} type the {@link Pawn} becomes
+	 */
+	public final int code;
+
+	/**
+	 * Constructor
+	 *
+	 * @param code {@link #code}
+	 */
+	PromoteState(final int code) {
+		this.code = code;
+	}
+
+	/**
+	 * Get the {@link PromoteState} of a {@link PieceCode} type
+	 *
+	 * @param code promotion type, {@link PieceCode#NONE} if there is none
+	 * @return {@link PromoteState} with that {@link #code}
+	 * @throws IllegalArgumentException if no {@link PromoteState} has that code
+	 */
+	public static PromoteState of(final int code) throws IllegalArgumentException {
+		for (final PromoteState state : values())
+			if (state.code == code)
+				return state;
+		throw new IllegalArgumentException("Illegal PieceCode type:\t" + code);
+	}
 }
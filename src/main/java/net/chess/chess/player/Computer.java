@@ -0,0 +1,178 @@
+package net.chess.chess.player;
+
+import java.util.Objects;
+
+import net.chess.chess.engine.Engine;
+import net.chess.chess.engine.Limits;
+import net.chess.chess.engine.SearchResult;
+import net.chess.chess.logging.ChessLogger;
+import net.chess.chess.piece.PieceColor;
+import net.chess.chess.position.Position;
+
+/**
+ * {@link Player} whose moves are chosen by an {@link Engine}.<br>
+ * When its {@link Limits} set a clock, this keeps its own clock: the time of
+ * each search is taken off it and the increment added after each move.<br>
+ * After moving, this ponders the reply it expects while the opponent thinks.
+ * If that reply is played the search already under way is kept, so the
+ * answer usually comes at once; otherwise it is dropped.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public class Computer extends Player {
+	/**
+	 * {@link Engine} reused for every move
+	 */
+	private final Engine engine;
+
+	/**
+	 * {@link Position#getKey()} of the position being pondered
+	 */
+	private long expected;
+
+	/**
+	 * {@link Limits} of each search
+	 */
+	private final Limits limits;
+
+	/**
+	 * Determine if this ponders on the time of the opponent
+	 */
+	private boolean ponder;
+
+	/**
+	 * Milliseconds left on the clock of this, if {@link #limits} set one
+	 */
+	private long time;
+
+	/**
+	 * Constructor searching on a single thread
+	 *
+	 * @param name   {@link String} name of this
+	 * @param color  {@link PieceColor} this will control
+	 * @param limits {@link #limits}
+	 */
+	public Computer(final String name, final PieceColor color, final Limits limits) {
+		this(name, color, limits, 1);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param name    {@link String} name of this
+	 * @param color   {@link PieceColor} this will control
+	 * @param limits  {@link #limits}
+	 * @param threads number of threads of {@link #engine}
+	 */
+	public Computer(final String name, final PieceColor color, final Limits limits, final int threads) {
+		super(name, color);
+		this.limits = Objects.requireNonNull(limits, "Limits cannot be null");
+		this.engine = new Engine(threads, Engine.DEFAULT_HASH);
+		this.time = limits.time;
+		this.ponder = true;
+	}
+
+	/**
+	 * Get {@link #limits}
+	 *
+	 * @return {@link #limits}
+	 */
+	public Limits getLimits() {
+		return this.limits;
+	}
+
+	/**
+	 * Get {@link #time}
+	 *
+	 * @return {@link #time}
+	 */
+	public long getTime() {
+		return this.time;
+	}
+
+	/**
+	 * Determine if this ponders
+	 *
+	 * @return {@link #ponder}
+	 */
+	public boolean isPonder() {
+		return this.ponder;
+	}
+
+	/**
+	 * Reset the clock along with the other attributes, dropping any pondering
+	 */
+	@Override
+	public void reset() {
+		super.reset();
+		// The constructor of Player resets this before its own fields are set
+		if (this.engine == null)
+			return;
+		if (this.engine.isPondering())
+			this.engine.ponderMiss();
+		this.time = this.limits.time;
+	}
+
+	/**
+	 * Set {@link #ponder}, dropping any pondering when turned off
+	 *
+	 * @param ponder {@link #ponder}
+	 */
+	public void setPonder(final boolean ponder) {
+		this.ponder = ponder;
+		if (!ponder && this.engine.isPondering())
+			this.engine.ponderMiss();
+	}
+
+	/**
+	 * Stop the search of {@link #think(Position)} as soon as possible.<br>
+	 * May be called from any thread; the move found so far is still returned.
+	 */
+	public void stop() {
+		this.engine.stop();
+	}
+
+	/**
+	 * Choose a move
+	 *
+	 * @param position {@link Position} with this to move
+	 * @return best {@link net.chess.chess.position.MoveCode} found
+	 */
+	public int think(final Position position) {
+		final long start = System.nanoTime();
+		final Limits limits = this.limits.isTimed()
+				? new Limits(this.limits.depth, this.limits.nodes, this.time, this.limits.increment)
+				: this.limits;
+
+		SearchResult result = null;
+		if (this.engine.isPondering()) {
+			final boolean hit = position.getKey() == this.expected;
+			ChessLogger.logger.fine(() -> this.name + ":\tponder " + (hit ? "hit" : "miss"));
+			if (hit)
+				result = this.engine.ponderHit(limits);
+			else
+				this.engine.ponderMiss();
+		}
+		// Searched afresh on a miss, or if pondering failed
+		if (result == null)
+			result = this.engine.search(position, limits);
+
+		if (this.limits.isTimed())
+			this.time = Math.max(this.time - (System.nanoTime() - start) / 1_000_000L, 1L) + this.limits.increment;
+		final SearchResult found = result;
+		ChessLogger.logger.info(() -> this.name + ":\t" + found
+				+ (this.limits.isTimed() ? "\tclock " + this.time + " ms" : ""));
+
+		// Ponder the position after the move and the reply the search expects
+		final int[] pv = result.getPV();
+		if (this.ponder && pv.length >= 2) {
+			final Position next = new Position(position);
+			next.make(pv[0]);
+			next.make(pv[1]);
+			this.expected = next.getKey();
+			this.engine.ponder(next);
+		}
+		return result.getMove();
+	}
+}
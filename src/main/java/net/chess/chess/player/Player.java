@@ -1,11 +1,9 @@
 package net.chess.chess.player;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
-import net.chess.chess.ChessApplication;
 import net.chess.chess.board.Tile;
+import net.chess.chess.logging.ChessLogger;
 import net.chess.chess.piece.Bishop;
 import net.chess.chess.piece.King;
 import net.chess.chess.piece.Knight;
@@ -47,6 +45,11 @@ public class Player {
 	 */
 	public final Piece[] pieces;
 
+	/**
+	 * {@link King} of this, also held in {@link #pieces}
+	 */
+	private final King king;
+
 	/**
 	 * Current score
 	 */
@@ -63,6 +66,7 @@ public class Player {
 		this.color = Objects.requireNonNull(color);
 		this.pieces = new Piece[16];
 		this.createPieces(false);
+		this.king = (King) this.pieces[12];
 		this.reset();
 	}
 
@@ -109,7 +113,7 @@ public class Player {
 	}
 
 	/**
-	 * Log attributes using {@link net.chess.chess.ChessApplication#logger}
+	 * Log attributes using {@link ChessLogger#logger}
 	 *
 	 * @return debug {@link String}
 	 */
@@ -122,80 +126,12 @@ public class Player {
 	}
 
 	/**
-	 * Get the Player's {@link Bishop}
-	 *
-	 * @return primitive type array of {@link Bishop}
-	 */
-	public Bishop[] getBishop() {
-		final List<Bishop> bishop = new ArrayList<>();
-		for (final Piece piece : this.pieces)
-			if (piece instanceof Bishop)
-				bishop.add((Bishop) piece);
-		return bishop.toArray(new Bishop[0]);
-	}
-
-	/**
-	 * Get this {@link Player}'s {@link King}.
+	 * Get {@link #king}
 	 *
-	 * @return {@link King}
+	 * @return {@link #king}
 	 */
 	public King getKing() {
-		for (final Piece piece : this.pieces)
-			if (piece instanceof King)
-				return (King) piece;
-		throw new IllegalStateException("Player does not have a King");
-	}
-
-	/**
-	 * Get this Player's {@link Knight}
-	 *
-	 * @return primitive type array of {@link Pawn}
-	 */
-	public Knight[] getKnight() {
-		final List<Knight> knight = new ArrayList<>();
-		for (final Piece piece : this.pieces)
-			if (piece instanceof Knight)
-				knight.add((Knight) piece);
-		return knight.toArray(new Knight[0]);
-	}
-
-	/**
-	 * Get this Player's {@link Pawn}s
-	 *
-	 * @return primitive type array of {@link Pawn}
-	 */
-	public Pawn[] getPawn() {
-		final List<Pawn> pawn = new ArrayList<>();
-		for (final Piece piece : this.pieces)
-			if (piece instanceof Pawn)
-				pawn.add((Pawn) piece);
-		return pawn.toArray(new Pawn[0]);
-	}
-
-	/**
-	 * Get this Player's {@link Queen}
-	 *
-	 * @return primitive type array of {@link Queen}
-	 */
-	public Queen[] getQueen() {
-		final List<Queen> queen = new ArrayList<>();
-		for (final Piece piece : this.pieces)
-			if (piece instanceof Queen)
-				queen.add((Queen) piece);
-		return queen.toArray(new Queen[0]);
-	}
-
-	/**
-	 * Get this Player's {@link Rook}
-	 *
-	 * @return primitive type array of {@link Rook}
-	 */
-	public Rook[] getRook() {
-		final List<Rook> rook = new ArrayList<>();
-		for (final Piece piece : this.pieces)
-			if (piece instanceof Rook)
-				rook.add((Rook) piece);
-		return rook.toArray(new Rook[0]);
+		return this.king;
 	}
 
 	/**
@@ -215,7 +151,7 @@ public class Player {
 	public void incrementScore(final Piece piece) {
 		if (piece == null)
 			return;
-		ChessApplication.logger.info("Capturing " + piece.toFigure());
+		ChessLogger.logger.fine(() -> "Capturing " + piece.toFigure());
 		this.score += piece.getValue();
 	}
 
@@ -233,11 +169,21 @@ public class Player {
 		}
 	}
 
+	/**
+	 * Replace a promoted {@link Pawn} in {@link #pieces}
+	 *
+	 * @param slot  index in {@link #pieces} of the {@link Pawn}
+	 * @param piece {@link Piece} the {@link Pawn} is promoted to
+	 */
+	public void promote(final int slot, final Piece piece) {
+		this.pieces[slot] = Objects.requireNonNull(piece, "Piece cannot be null");
+	}
+
 	/**
 	 * Reset Player's attributes back to their default values
 	 */
 	public void reset() {
-		ChessApplication.logger.info("Resetting " + this.name);
+		ChessLogger.logger.info("Resetting " + this.name);
 		this.score = 0;
 	}
 
@@ -0,0 +1,296 @@
+package net.chess.chess.position;
+
+/**
+ * Precomputed attack tables.<br>
+ * Each table holds, for every {@link Square}, the {@link Bitboards} of the
+ * squares a piece standing there attacks, so answering if a piece attacks a
+ * square is a single lookup.<br>
+ * Sliding pieces use magic bitboards: the blockers relevant to a square are
+ * multiplied by a magic number whose top bits index the attack set for that
+ * exact occupancy.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Attacks {
+    /**
+     * File and rank offsets of the bishop directions
+     */
+    private static final int[][] bishop_directions = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    /**
+     * Magic numbers of the bishop, indexed by square
+     */
+    private static final long[] bishop_magics = {
+            0xA010041108003100L, 0x006082020A002900L, 0x6810010619200000L, 0x08281A0520000408L,
+            0x0001104001000400L, 0x0018901008048400L, 0x00040A0210245280L, 0x000200210808A402L,
+            0x9140048410821200L, 0x0800091010820041L, 0x20504804832202C0L, 0x0100091401081000L,
+            0x8021011140000012L, 0x0810020804450400L, 0x208B0542109008A2L, 0x0080084A08040204L,
+            0x0040E2A80811244CL, 0x2505022008008108L, 0x0430220100420040L, 0x010A040420220040L,
+            0x1105000290400000L, 0x0093001200822120L, 0x4000A62048043004L, 0x280120048A015004L,
+            0x006090002A020814L, 0x44042000240800D0L, 0x01102800040A4400L, 0x1004080080220040L,
+            0x0001001011004024L, 0x0010044000805040L, 0x0914041200820100L, 0x0004821012821480L,
+            0x0024040500C05021L, 0x0088611002080200L, 0x0116080A00040020L, 0x4000020080080080L,
+            0x2450450140840040L, 0x0000880201484100L, 0x0222020404020092L, 0x8081110600002E00L,
+            0x2842101105000801L, 0x1100809008001025L, 0x00020202221C0400L, 0x0422014022009020L,
+            0x0210046102100C00L, 0xC004008082029102L, 0x00AA461801101200L, 0x0404080080201108L,
+            0x020542108C205002L, 0x0410544804100100L, 0x0040910841100000L, 0x0400200042021100L,
+            0x00004204850400C0L, 0x0200100410A42102L, 0x1040020801210102L, 0x0805040410420000L,
+            0x2884804130100200L, 0x800C262201242000L, 0x1058000194108800L, 0x0014221054420204L,
+            0x0104000012A02200L, 0x0200881003300100L, 0x0140400202840100L, 0x0402020801010201L
+    };
+
+    /**
+     * Relevant blockers of the bishop, indexed by square
+     */
+    private static final long[] bishop_masks = new long[64];
+
+    /**
+     * Start of each square's slice of {@link #bishop_table}
+     */
+    private static final int[] bishop_offsets = new int[64];
+
+    /**
+     * Right shift turning a magic product into an index, indexed by square
+     */
+    private static final int[] bishop_shifts = new int[64];
+
+    /**
+     * Attacks of the bishop for every blocker configuration
+     */
+    private static final long[] bishop_table = new long[5248];
+
+    /**
+     * Squares attacked by a king, indexed by square
+     */
+    private static final long[] king = new long[64];
+
+    /**
+     * Squares attacked by a knight, indexed by square
+     */
+    private static final long[] knight = new long[64];
+
+    /**
+     * Squares attacked by a pawn, indexed by colour then square
+     */
+    private static final long[][] pawn = new long[2][64];
+
+    /**
+     * File and rank offsets of the rook directions
+     */
+    private static final int[][] rook_directions = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    /**
+     * Magic numbers of the rook, indexed by square
+     */
+    private static final long[] rook_magics = {
+            0x1080004008801020L, 0x0840092002C03000L, 0x1900200010400900L, 0x0880100008000480L,
+            0x4200100420080200L, 0x8100020100080400L, 0x0200040110886200L, 0x0200008040220411L,
+            0x0404800084400220L, 0x0000401000402000L, 0x0086001081220440L, 0x0408800800100280L,
+            0x000A001201040820L, 0x8848800200840080L, 0x4001000100040200L, 0x0442000102105084L,
+            0x9080010020804100L, 0x0040404000201009L, 0x0000808010002009L, 0x2200090021D00100L,
+            0x0008008008040080L, 0x0004004002010040L, 0x0011040008015042L, 0x00000A0001768104L,
+            0x0000800080204009L, 0x2010004140002001L, 0x9800200280100080L, 0x1000100080080080L,
+            0x0442000A00049020L, 0x2100040080020080L, 0x0800120400900148L, 0x0010040A00128541L,
+            0x2800804000800030L, 0x1010002000400041L, 0x4000200011004100L, 0x0610008410800800L,
+            0x0400802402800800L, 0xC100020080800400L, 0x0002000802000401L, 0x0182085882000401L,
+            0x0220204000808000L, 0x2860100040024022L, 0x0001002004110040L, 0x99101042000A0020L,
+            0x0004080004008080L, 0x0010040002008080L, 0x2012004881020004L, 0x8300842444820011L,
+            0x0088403882010200L, 0x0820400080210100L, 0x0110910040A00300L, 0x0801100280080480L,
+            0x0242009008200600L, 0x1002000489500200L, 0x0040800200010080L, 0x0091800041000080L,
+            0x0000209300488001L, 0x04C1002414824001L, 0x020020000B001041L, 0x7000100004200901L,
+            0x8002002004100802L, 0x30010002084C0007L, 0x0888221800813004L, 0x4000002840840112L
+    };
+
+    /**
+     * Relevant blockers of the rook, indexed by square
+     */
+    private static final long[] rook_masks = new long[64];
+
+    /**
+     * Start of each square's slice of {@link #rook_table}
+     */
+    private static final int[] rook_offsets = new int[64];
+
+    /**
+     * Right shift turning a magic product into an index, indexed by square
+     */
+    private static final int[] rook_shifts = new int[64];
+
+    /**
+     * Attacks of the rook for every blocker configuration
+     */
+    private static final long[] rook_table = new long[102400];
+
+    static {
+        for (int square = 0; square < 64; ++square) {
+            final long bit = Bitboards.bit(square);
+            king[square] = Bitboards.kingSpan(bit);
+            knight[square] = Bitboards.knightSpan(bit);
+            pawn[PieceCode.WHITE][square] = Bitboards.pawnSpan(bit, PieceCode.WHITE);
+            pawn[PieceCode.BLACK][square] = Bitboards.pawnSpan(bit, PieceCode.BLACK);
+        }
+
+        initMagics(rook_directions, rook_masks, rook_magics, rook_shifts, rook_offsets, rook_table);
+        initMagics(bishop_directions, bishop_masks, bishop_magics, bishop_shifts, bishop_offsets, bishop_table);
+    }
+
+    /**
+     * Constructor
+     */
+    private Attacks() {
+    }
+
+    /**
+     * Get the squares a bishop attacks
+     *
+     * @param square   square of the bishop
+     * @param occupied bitboard of every piece on the board
+     * @return bitboard of the attacked squares, including the first blocker of each direction
+     */
+    public static long bishop(final int square, final long occupied) {
+        return bishop_table[bishop_offsets[square]
+                + (int) ((occupied & bishop_masks[square]) * bishop_magics[square] >>> bishop_shifts[square])];
+    }
+
+    /**
+     * Get the edges of the board that do not hold a square
+     *
+     * @param square square to exclude the edges of
+     * @return bitboard of the outer ranks and files not containing the square
+     */
+    private static long edges(final int square) {
+        return (Bitboards.RANK_1 | Bitboards.RANK_8) & ~(Bitboards.RANK_1 << 8 * Square.rank(square))
+                | (Bitboards.FILE_A | Bitboards.FILE_H) & ~(Bitboards.FILE_A << Square.file(square));
+    }
+
+    /**
+     * Fill the magic lookup of a sliding piece
+     *
+     * @param directions file and rank offsets of the slider
+     * @param masks      relevant blockers to fill
+     * @param magics     magic numbers of the slider
+     * @param shifts     index shifts to fill
+     * @param offsets    slice offsets to fill
+     * @param table      attack table to fill
+     */
+    private static void initMagics(final int[][] directions, final long[] masks, final long[] magics,
+                                   final int[] shifts, final int[] offsets, final long[] table) {
+        int offset = 0;
+        for (int square = 0; square < 64; ++square) {
+            // Blockers on the edge of the board never hide any square
+            final long mask = slide(square, 0L, directions) & ~edges(square);
+            masks[square] = mask;
+            shifts[square] = 64 - Long.bitCount(mask);
+            offsets[square] = offset;
+
+            // Walk every subset of the mask
+            long blockers = 0L;
+            do {
+                table[offset + (int) (blockers * magics[square] >>> shifts[square])] = slide(square, blockers,
+                        directions);
+                blockers = blockers - mask & mask;
+            } while (blockers != 0L);
+            offset += 1 << Long.bitCount(mask);
+        }
+    }
+
+    /**
+     * Get the squares a king attacks
+     *
+     * @param square square of the king
+     * @return bitboard of the attacked squares
+     */
+    public static long king(final int square) {
+        return king[square];
+    }
+
+    /**
+     * Get the squares a knight attacks
+     *
+     * @param square square of the knight
+     * @return bitboard of the attacked squares
+     */
+    public static long knight(final int square) {
+        return knight[square];
+    }
+
+    /**
+     * Get the squares any piece attacks
+     *
+     * @param piece    {@link PieceCode} of the piece
+     * @param square   square of the piece
+     * @param occupied bitboard of every piece on the board
+     * @return bitboard of the attacked squares
+     */
+    public static long of(final int piece, final int square, final long occupied) {
+        return switch (PieceCode.type(piece)) {
+            case PieceCode.PAWN -> pawn[PieceCode.color(piece)][square];
+            case PieceCode.KNIGHT -> knight[square];
+            case PieceCode.BISHOP -> bishop(square, occupied);
+            case PieceCode.ROOK -> rook(square, occupied);
+            case PieceCode.QUEEN -> queen(square, occupied);
+            case PieceCode.KING -> king[square];
+            default -> 0L;
+        };
+    }
+
+    /**
+     * Get the squares a pawn attacks
+     *
+     * @param color  colour of the pawn
+     * @param square square of the pawn
+     * @return bitboard of the attacked squares
+     */
+    public static long pawn(final int color, final int square) {
+        return pawn[color][square];
+    }
+
+    /**
+     * Get the squares a queen attacks
+     *
+     * @param square   square of the queen
+     * @param occupied bitboard of every piece on the board
+     * @return bitboard of the attacked squares, including the first blocker of each direction
+     */
+    public static long queen(final int square, final long occupied) {
+        return rook(square, occupied) | bishop(square, occupied);
+    }
+
+    /**
+     * Get the squares a rook attacks
+     *
+     * @param square   square of the rook
+     * @param occupied bitboard of every piece on the board
+     * @return bitboard of the attacked squares, including the first blocker of each direction
+     */
+    public static long rook(final int square, final long occupied) {
+        return rook_table[rook_offsets[square]
+                + (int) ((occupied & rook_masks[square]) * rook_magics[square] >>> rook_shifts[square])];
+    }
+
+    /**
+     * Walk the rays of a slider one square at a time.<br>
+     * Only used to fill the tables.
+     *
+     * @param square     square of the slider
+     * @param occupied   bitboard of the blockers
+     * @param directions file and rank offsets of the slider
+     * @return bitboard of the attacked squares
+     */
+    private static long slide(final int square, final long occupied, final int[][] directions) {
+        long attacks = 0L;
+        for (final int[] direction : directions) {
+            int rank = Square.rank(square) + direction[1], file = Square.file(square) + direction[0];
+            while (Square.isValid(rank, file)) {
+                final long bit = Bitboards.bit(Square.of(rank, file));
+                attacks |= bit;
+                if ((occupied & bit) != 0)
+                    break;
+                rank += direction[1];
+                file += direction[0];
+            }
+        }
+        return attacks;
+    }
+}
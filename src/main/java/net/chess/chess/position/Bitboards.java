@@ -0,0 +1,146 @@
+package net.chess.chess.position;
+
+/**
+ * Set operations on bitboards.<br>
+ * A bitboard is a {@code long} where bit {@code n} is set when {@link Square}
+ * {@code n} belongs to the set.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Bitboards {
+    /**
+     * Squares on the a-file
+     */
+    public static final long FILE_A = 0x0101010101010101L;
+
+    /**
+     * Squares on the h-file
+     */
+    public static final long FILE_H = FILE_A << 7;
+
+    /**
+     * Squares on the first rank
+     */
+    public static final long RANK_1 = 0xFFL;
+
+    /**
+     * Squares on the eighth rank
+     */
+    public static final long RANK_8 = RANK_1 << 56;
+
+    /**
+     * Squares strictly between two squares sharing a rank, file or diagonal,
+     * indexed by both squares
+     */
+    private static final long[][] between = new long[64][64];
+
+    /**
+     * Squares not on the a-file or b-file
+     */
+    private static final long not_ab = ~(FILE_A | FILE_A << 1);
+
+    /**
+     * Squares not on the g-file or h-file
+     */
+    private static final long not_gh = ~(FILE_H | FILE_H >>> 1);
+
+    static {
+        for (int from = 0; from < 64; ++from)
+            for (int to = 0; to < 64; ++to) {
+                final int df = Square.file(to) - Square.file(from), dr = Square.rank(to) - Square.rank(from);
+                if (from == to || df != 0 && dr != 0 && Math.abs(df) != Math.abs(dr))
+                    continue;
+
+                final int step = Integer.signum(dr) * 8 + Integer.signum(df);
+                for (int square = from + step; square != to; square += step)
+                    between[from][to] |= bit(square);
+            }
+    }
+
+    /**
+     * Constructor
+     */
+    private Bitboards() {
+    }
+
+    /**
+     * Get the squares strictly between two squares
+     *
+     * @param from first square
+     * @param to   last square
+     * @return squares between them if they share a rank, file or diagonal<br>
+     * {@code 0} otherwise
+     */
+    public static long between(final int from, final int to) {
+        return between[from][to];
+    }
+
+    /**
+     * Get the bitboard of a single square
+     *
+     * @param square square to set
+     * @return bitboard holding only that square
+     */
+    public static long bit(final int square) {
+        return 1L << square;
+    }
+
+    /**
+     * Get the lowest square of a bitboard
+     *
+     * @param bitboard non empty bitboard
+     * @return lowest square in the set
+     */
+    public static int first(final long bitboard) {
+        return Long.numberOfTrailingZeros(bitboard);
+    }
+
+    /**
+     * Determine if a bitboard contains a square
+     *
+     * @param bitboard bitboard to inspect
+     * @param square   square to find
+     * @return {@code true} if the square is in the set<br>
+     * {@code false} otherwise
+     */
+    public static boolean has(final long bitboard, final int square) {
+        return (bitboard >>> square & 1L) != 0;
+    }
+
+    /**
+     * Get every square a king standing on any square of a set attacks
+     *
+     * @param kings squares of the kings
+     * @return squares attacked
+     */
+    public static long kingSpan(final long kings) {
+        final long sides = kings << 1 & ~FILE_A | kings >>> 1 & ~FILE_H;
+        final long row = kings | sides;
+        return sides | row << 8 | row >>> 8;
+    }
+
+    /**
+     * Get every square a knight standing on any square of a set attacks
+     *
+     * @param knights squares of the knights
+     * @return squares attacked
+     */
+    public static long knightSpan(final long knights) {
+        final long one = knights << 1 & ~FILE_A | knights >>> 1 & ~FILE_H;
+        final long two = knights << 2 & not_ab | knights >>> 2 & not_gh;
+        return one << 16 | one >>> 16 | two << 8 | two >>> 8;
+    }
+
+    /**
+     * Get every square a pawn standing on any square of a set attacks
+     *
+     * @param pawns squares of the pawns
+     * @param color colour of the pawns
+     * @return squares attacked
+     */
+    public static long pawnSpan(final long pawns, final int color) {
+        final long sides = pawns << 1 & ~FILE_A | pawns >>> 1 & ~FILE_H;
+        return color == PieceCode.WHITE ? sides << 8 : sides >>> 8;
+    }
+}
@@ -0,0 +1,134 @@
+package net.chess.chess.position;
+
+/**
+ * Moves of the {@link Position} encoded as {@code int}.<br>
+ * A code holds the source {@link Square} in bits {@code 0-5}, the destination
+ * in bits {@code 6-11}, the promotion type of {@link PieceCode} in bits
+ * {@code 12-14} and the flags {@link #CAPTURE}, {@link #CASTLE} and
+ * {@link #EN_PASSANT} above them.<br>
+ * The flags only describe the move; {@link Position#make(int)} reads the
+ * squares and promotion alone, so a code without flags plays the same move.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class MoveCode {
+    /**
+     * Flag of a move taking an enemy piece, including en passant
+     */
+    public static final int CAPTURE = 1 << 15;
+
+    /**
+     * Flag of a king castling
+     */
+    public static final int CASTLE = 1 << 16;
+
+    /**
+     * Flag of a pawn capturing en passant
+     */
+    public static final int EN_PASSANT = 1 << 17;
+
+    /**
+     * Mask of the squares and promotion, without the flags
+     */
+    public static final int MOVE_MASK = CAPTURE - 1;
+
+    /**
+     * Code of no move, since a square never moves to itself
+     */
+    public static final int NONE = 0;
+
+    /**
+     * Constructor
+     */
+    private MoveCode() {
+    }
+
+    /**
+     * Get the source square of a move
+     *
+     * @param move move code
+     * @return source square
+     */
+    public static int from(final int move) {
+        return move & 63;
+    }
+
+    /**
+     * Determine if a move takes an enemy piece
+     *
+     * @param move move code
+     * @return {@code true} if {@link #CAPTURE} is set<br>
+     * {@code false} otherwise
+     */
+    public static boolean isCapture(final int move) {
+        return (move & CAPTURE) != 0;
+    }
+
+    /**
+     * Determine if a move is a castle
+     *
+     * @param move move code
+     * @return {@code true} if {@link #CASTLE} is set<br>
+     * {@code false} otherwise
+     */
+    public static boolean isCastle(final int move) {
+        return (move & CASTLE) != 0;
+    }
+
+    /**
+     * Determine if a move captures en passant
+     *
+     * @param move move code
+     * @return {@code true} if {@link #EN_PASSANT} is set<br>
+     * {@code false} otherwise
+     */
+    public static boolean isEnPassant(final int move) {
+        return (move & EN_PASSANT) != 0;
+    }
+
+    /**
+     * Encode a move
+     *
+     * @param from      source square
+     * @param to        destination square
+     * @param promotion promotion type, {@link PieceCode#NONE} if the move does not promote
+     * @return move code
+     */
+    public static int of(final int from, final int to, final int promotion) {
+        return from | to << 6 | promotion << 12;
+    }
+
+    /**
+     * Get the promotion type of a move
+     *
+     * @param move move code
+     * @return promotion type, {@link PieceCode#NONE} if the move does not promote
+     */
+    public static int promotion(final int move) {
+        return move >>> 12 & 7;
+    }
+
+    /**
+     * Get the destination square of a move
+     *
+     * @param move move code
+     * @return destination square
+     */
+    public static int to(final int move) {
+        return move >>> 6 & 63;
+    }
+
+    /**
+     * Converts a move into coordinate notation, such as {@code e2e4} or {@code e7e8q}
+     *
+     * @param move move code
+     * @return coordinate notation of the move
+     */
+    public static String toString(final int move) {
+        final String out = Square.toString(from(move)) + Square.toString(to(move));
+        final int promotion = promotion(move);
+        return promotion == PieceCode.NONE ? out
+                : out + PieceCode.toFEN(PieceCode.of(PieceCode.BLACK, promotion));
+    }
+}
@@ -0,0 +1,141 @@
+package net.chess.chess.position;
+
+import java.util.Objects;
+
+import static net.chess.chess.position.PieceCode.*;
+
+/**
+ * Legal move generator of a {@link Position}.<br>
+ * The pieces pinned to the king and the squares stopping a check are computed
+ * once per position, then every piece is restricted to them, so only legal
+ * moves are emitted and no move has to be played to be tested.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class MoveGenerator {
+    /**
+     * Types a pawn may promote to, strongest first
+     */
+    private static final int[] promotions = {QUEEN, ROOK, BISHOP, KNIGHT};
+
+    /**
+     * Constructor
+     */
+    private MoveGenerator() {
+    }
+
+    /**
+     * Append every move of a pawn to its targets, once per promotion on the
+     * last rank
+     *
+     * @param moves   {@link MoveList} to fill
+     * @param from    square of the pawn
+     * @param targets bitboard of the destinations
+     * @param enemy   bitboard of the enemy pieces
+     */
+    private static void addPawn(final MoveList moves, final int from, final long targets, final long enemy) {
+        for (long remaining = targets; remaining != 0; remaining &= remaining - 1) {
+            final int to = Bitboards.first(remaining);
+            final int flags = Bitboards.has(enemy, to) ? MoveCode.CAPTURE : 0;
+            if (Square.rank(to) == 0 || Square.rank(to) == 7)
+                for (final int promotion : promotions)
+                    moves.add(MoveCode.of(from, to, promotion) | flags);
+            else
+                moves.add(MoveCode.of(from, to, NONE) | flags);
+        }
+    }
+
+    /**
+     * Append every legal move of the side to move
+     *
+     * @param position {@link Position} to generate from
+     * @param moves    {@link MoveList} to fill, cleared first
+     */
+    public static void generate(final Position position, final MoveList moves) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        Objects.requireNonNull(moves, "MoveList cannot be null");
+        moves.clear();
+
+        final int us = position.getSide(), them = us ^ 1, king = position.king(us);
+        final long own = position.occupancy(us), enemy = position.occupancy(them);
+        final long occupied = position.getOccupied(), checkers = position.attackers(king, them, occupied);
+
+        // The king may not step onto an attacked square, nor back along the ray of a checking slider
+        final long lifted = occupied ^ Bitboards.bit(king);
+        for (long targets = Attacks.king(king) & ~own; targets != 0; targets &= targets - 1) {
+            final int to = Bitboards.first(targets);
+            if (position.attackers(to, them, lifted) == 0)
+                moves.add(MoveCode.of(king, to, NONE) | (Bitboards.has(enemy, to) ? MoveCode.CAPTURE : 0));
+        }
+        if (Long.bitCount(checkers) > 1)
+            return;
+
+        // Every other move must capture the checker or block its ray
+        final long evasions = checkers == 0 ? ~0L : checkers | Bitboards.between(king, Bitboards.first(checkers));
+        if (checkers == 0)
+            for (int to = king - 2; to <= king + 2; to += 4)
+                if (position.canCastle(king, to))
+                    moves.add(MoveCode.of(king, to, NONE) | MoveCode.CASTLE);
+
+        // A piece alone between the king and an enemy slider may only move along that ray
+        long pinned = 0L;
+        final long queens = position.pieces(them, QUEEN);
+        final long snipers = Attacks.rook(king, 0L) & (position.pieces(them, ROOK) | queens)
+                | Attacks.bishop(king, 0L) & (position.pieces(them, BISHOP) | queens);
+        for (long remaining = snipers; remaining != 0; remaining &= remaining - 1) {
+            final int sniper = Bitboards.first(remaining);
+            final long between = Bitboards.between(king, sniper), blockers = between & occupied;
+            if (Long.bitCount(blockers) == 1 && (blockers & own) != 0) {
+                pinned |= blockers;
+            }
+        }
+
+        final int forward = us == WHITE ? 8 : -8;
+        final long third = us == WHITE ? Bitboards.RANK_1 << 16 : Bitboards.RANK_8 >>> 16;
+        for (long pieces = own & ~Bitboards.bit(king); pieces != 0; pieces &= pieces - 1) {
+            final int from = Bitboards.first(pieces), piece = position.get(from);
+            final long allowed = evasions & (Bitboards.has(pinned, from) ? ray(king, from, snipers) : ~0L);
+            if (type(piece) != PAWN) {
+                for (long targets = Attacks.of(piece, from, occupied) & ~own & allowed; targets != 0;
+                     targets &= targets - 1) {
+                    final int to = Bitboards.first(targets);
+                    moves.add(MoveCode.of(from, to, NONE) | (Bitboards.has(enemy, to) ? MoveCode.CAPTURE : 0));
+                }
+                continue;
+            }
+
+            long pushes = Bitboards.bit(from + forward) & ~occupied;
+            if ((pushes & third) != 0)
+                pushes |= Bitboards.bit(from + 2 * forward) & ~occupied;
+            addPawn(moves, from, (pushes | Attacks.pawn(us, from) & enemy) & allowed, enemy);
+
+            // Capturing en passant removes two pieces from a rank, so it is tested on the resulting occupancy
+            final int passant = position.getEnPassant();
+            if (passant != Square.NONE && Bitboards.has(Attacks.pawn(us, from), passant)) {
+                final long victim = Bitboards.bit(passant - forward);
+                final long after = (occupied ^ Bitboards.bit(from) ^ victim) | Bitboards.bit(passant);
+                if ((position.attackers(king, them, after) & ~victim) == 0)
+                    moves.add(MoveCode.of(from, passant, NONE) | MoveCode.CAPTURE | MoveCode.EN_PASSANT);
+            }
+        }
+    }
+
+    /**
+     * Get the ray a pinned piece may still move along
+     *
+     * @param king    square of the king
+     * @param from    square of the pinned piece
+     * @param snipers bitboard of the enemy sliders aligned with the king
+     * @return bitboard of the squares between the king and the pinning slider, the slider included
+     */
+    private static long ray(final int king, final int from, final long snipers) {
+        for (long remaining = snipers; remaining != 0; remaining &= remaining - 1) {
+            final int sniper = Bitboards.first(remaining);
+            final long between = Bitboards.between(king, sniper);
+            if (Bitboards.has(between, from))
+                return between | Bitboards.bit(sniper);
+        }
+        return ~0L;
+    }
+}
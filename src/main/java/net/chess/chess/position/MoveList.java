@@ -0,0 +1,117 @@
+package net.chess.chess.position;
+
+import java.util.Objects;
+
+/**
+ * Reusable list of {@link MoveCode}.<br>
+ * The moves are held in a fixed array large enough for any position, so
+ * filling and clearing the list never allocates.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class MoveList {
+    /**
+     * Largest number of moves held.<br>
+     * No legal position has more than {@code 218} moves.
+     */
+    public static final int CAPACITY = 256;
+
+    /**
+     * Moves held, only the first {@link #size} are meaningful
+     */
+    private final int[] moves;
+
+    /**
+     * Number of moves held
+     */
+    private int size;
+
+    /**
+     * Constructor
+     */
+    public MoveList() {
+        this.moves = new int[CAPACITY];
+    }
+
+    /**
+     * Append a move
+     *
+     * @param move {@link MoveCode} to append
+     */
+    public void add(final int move) {
+        this.moves[this.size++] = move;
+    }
+
+    /**
+     * Remove every move
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Determine if a move is held
+     *
+     * @param move {@link MoveCode} to find
+     * @return {@code true} if the move is held<br>
+     * {@code false} otherwise
+     */
+    public boolean contains(final int move) {
+        for (int i = 0; i < this.size; ++i)
+            if (this.moves[i] == move)
+                return true;
+        return false;
+    }
+
+    /**
+     * Get a move
+     *
+     * @param index index of the move
+     * @return {@link MoveCode} at the index
+     * @throws IndexOutOfBoundsException if the index is not below {@link #size}
+     */
+    public int get(final int index) throws IndexOutOfBoundsException {
+        return this.moves[Objects.checkIndex(index, this.size)];
+    }
+
+    /**
+     * Determine if no move is held
+     *
+     * @return {@code true} if {@link #size} is {@code 0}<br>
+     * {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Get {@link #size}
+     *
+     * @return {@link #size}
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Exchange two moves
+     *
+     * @param i index of a move
+     * @param j index of another move
+     * @throws IndexOutOfBoundsException if an index is not below {@link #size}
+     */
+    public void swap(final int i, final int j) throws IndexOutOfBoundsException {
+        final int move = this.moves[Objects.checkIndex(i, this.size)];
+        this.moves[i] = this.moves[Objects.checkIndex(j, this.size)];
+        this.moves[j] = move;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder out = new StringBuilder("[");
+        for (int i = 0; i < this.size; ++i)
+            out.append(i == 0 ? "" : ", ").append(MoveCode.toString(this.moves[i]));
+        return out.append(']').toString();
+    }
+}
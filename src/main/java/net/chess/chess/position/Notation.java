@@ -0,0 +1,94 @@
+package net.chess.chess.position;
+
+import java.util.Objects;
+
+import static net.chess.chess.position.PieceCode.*;
+
+/**
+ * Standard Algebraic Notation of {@link MoveCode}.<br>
+ * Moves are kept as codes while a game is played and only spelled out when
+ * they are displayed or written.<br>
+ * Read more <a href="https://en.wikipedia.org/wiki/Algebraic_notation_(chess)">here</a>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Notation {
+    /**
+     * Constructor
+     */
+    private Notation() {
+    }
+
+    /**
+     * Converts a move into Standard Algebraic Notation, such as {@code Nbd7},
+     * {@code exd6}, {@code O-O-O} or {@code bxc8=Q#}.<br>
+     * The move is made and unmade on the position to find check and mate, so
+     * the position is left as it was.
+     *
+     * @param position {@link Position} before the move
+     * @param move     legal {@link MoveCode} of the side to move
+     * @return Standard Algebraic Notation of the move
+     */
+    public static String toSAN(final Position position, final int move) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        final int from = MoveCode.from(move), to = MoveCode.to(move), promotion = MoveCode.promotion(move);
+        final int type = type(position.get(from));
+        final boolean capture = position.get(to) != NONE || position.isEnPassant(from, to);
+        final StringBuilder san = new StringBuilder(8);
+
+        if (position.isCastle(from, to))
+            san.append(to > from ? "O-O" : "O-O-O");
+        else if (type == PAWN) {
+            if (capture)
+                san.append((char) ('a' + Square.file(from))).append('x');
+            san.append(Square.toString(to));
+            if (promotion != NONE)
+                san.append('=').append(toFEN(of(WHITE, promotion)));
+        } else {
+            san.append(toFEN(of(WHITE, type)));
+            disambiguate(position, from, to, san);
+            if (capture)
+                san.append('x');
+            san.append(Square.toString(to));
+        }
+
+        position.make(move);
+        if (position.inCheck())
+            san.append(position.hasLegalMove() ? '+' : '#');
+        position.unmake();
+        return san.toString();
+    }
+
+    /**
+     * Append the file, rank or square of the source when another piece of the
+     * same type may also reach the destination
+     *
+     * @param position {@link Position} before the move
+     * @param from     source square
+     * @param to       destination square
+     * @param san      notation being built
+     */
+    private static void disambiguate(final Position position, final int from, final int to, final StringBuilder san) {
+        final MoveList moves = new MoveList();
+        MoveGenerator.generate(position, moves);
+        boolean ambiguous = false, file = false, rank = false;
+        for (int i = 0; i < moves.size(); ++i) {
+            final int other = MoveCode.from(moves.get(i));
+            if (other == from || MoveCode.to(moves.get(i)) != to || position.get(other) != position.get(from))
+                continue;
+            ambiguous = true;
+            file |= Square.file(other) == Square.file(from);
+            rank |= Square.rank(other) == Square.rank(from);
+        }
+
+        if (!ambiguous)
+            return;
+        if (!file)
+            san.append((char) ('a' + Square.file(from)));
+        else if (!rank)
+            san.append((char) ('1' + Square.rank(from)));
+        else
+            san.append(Square.toString(from));
+    }
+}
@@ -0,0 +1,123 @@
+package net.chess.chess.position;
+
+/**
+ * Pieces of the {@link Position} encoded as small {@code int}.<br>
+ * A code holds the colour in bit {@code 3} and the type in bits {@code 0-2}, so
+ * {@link #NONE} is the only code equal to {@code 0}.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class PieceCode {
+    /**
+     * Colour of the white pieces
+     */
+    public static final int WHITE = 0;
+
+    /**
+     * Colour of the black pieces
+     */
+    public static final int BLACK = 1;
+
+    /**
+     * Empty square
+     */
+    public static final int NONE = 0;
+
+    /**
+     * Pawn type
+     */
+    public static final int PAWN = 1;
+
+    /**
+     * Knight type
+     */
+    public static final int KNIGHT = 2;
+
+    /**
+     * Bishop type
+     */
+    public static final int BISHOP = 3;
+
+    /**
+     * Rook type
+     */
+    public static final int ROOK = 4;
+
+    /**
+     * Queen type
+     */
+    public static final int QUEEN = 5;
+
+    /**
+     * King type
+     */
+    public static final int KING = 6;
+
+    /**
+     * Forsyth-Edwards Notation of each type, indexed by type
+     */
+    private static final String fen = " PNBRQK";
+
+    /**
+     * Constructor
+     */
+    private PieceCode() {
+    }
+
+    /**
+     * Get the colour of a piece
+     *
+     * @param code piece code
+     * @return {@link #WHITE} or {@link #BLACK}
+     */
+    public static int color(final int code) {
+        return code >>> 3;
+    }
+
+    /**
+     * Parse a piece from Forsyth-Edwards Notation
+     *
+     * @param c upper case for white, lower case for black
+     * @return piece code
+     * @throws IllegalArgumentException if the character is not a piece
+     */
+    public static int fromFEN(final char c) throws IllegalArgumentException {
+        final int type = fen.indexOf(Character.toUpperCase(c));
+        if (type < PAWN)
+            throw new IllegalArgumentException("Illegal piece:\t" + c);
+        return of(Character.isUpperCase(c) ? WHITE : BLACK, type);
+    }
+
+    /**
+     * Get the piece code of a colour and type
+     *
+     * @param color {@link #WHITE} or {@link #BLACK}
+     * @param type  one of {@link #PAWN} to {@link #KING}
+     * @return piece code
+     */
+    public static int of(final int color, final int type) {
+        return color << 3 | type;
+    }
+
+    /**
+     * Converts a piece into Forsyth-Edwards Notation
+     *
+     * @param code piece code
+     * @return upper case for white, lower case for black
+     */
+    public static char toFEN(final int code) {
+        final char c = fen.charAt(type(code));
+        return color(code) == WHITE ? c : Character.toLowerCase(c);
+    }
+
+    /**
+     * Get the type of a piece
+     *
+     * @param code piece code
+     * @return one of {@link #PAWN} to {@link #KING}, or {@link #NONE}
+     */
+    public static int type(final int code) {
+        return code & 7;
+    }
+}
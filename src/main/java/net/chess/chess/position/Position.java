@@ -0,0 +1,901 @@
+package net.chess.chess.position;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static net.chess.chess.position.PieceCode.*;
+
+/**
+ * Pure model of a chess position.<br>
+ * Squares are {@code int} as described by {@link Square} and pieces are
+ * {@code int} as described by {@link PieceCode}. Every piece is kept both on
+ * a square indexed array, for lookups by square, and in {@link Bitboards}, one
+ * per piece code and colour, for lookups by piece and for set operations.<br>
+ * The squares each piece attacks are kept up to date as pieces are put and
+ * removed, so asking if a colour attacks a square is a single lookup.<br>
+ * Moves are made and unmade through a stack of compact undo records, so the
+ * game can be stepped back and forth without rebuilding the position.<br>
+ * A {@link Zobrist} key identifies the position and is updated on every move.<br>
+ * This knows every rule of the game, so it can be queried and played without
+ * any GUI element.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Position {
+    /**
+     * Forsyth-Edwards Notation of the initial position
+     */
+    public static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    /**
+     * Castling right for the {@link PieceCode#WHITE} King-side
+     */
+    public static final int WHITE_KINGSIDE = 1;
+
+    /**
+     * Castling right for the {@link PieceCode#WHITE} Queen-side
+     */
+    public static final int WHITE_QUEENSIDE = 2;
+
+    /**
+     * Castling right for the {@link PieceCode#BLACK} King-side
+     */
+    public static final int BLACK_KINGSIDE = 4;
+
+    /**
+     * Castling right for the {@link PieceCode#BLACK} Queen-side
+     */
+    public static final int BLACK_QUEENSIDE = 8;
+
+    /**
+     * Squares attacked by each colour, indexed by colour
+     */
+    private final long[] attacked;
+
+    /**
+     * Squares attacked by the piece on each square, {@code 0} for empty squares
+     */
+    private final long[] attacks;
+
+    /**
+     * Piece code on each square
+     */
+    private final int[] board;
+
+    /**
+     * Castling rights as a combination of {@link #WHITE_KINGSIDE},
+     * {@link #WHITE_QUEENSIDE}, {@link #BLACK_KINGSIDE} and {@link #BLACK_QUEENSIDE}
+     */
+    private int castling;
+
+    /**
+     * Bitboard of every piece of a colour, indexed by colour
+     */
+    private final long[] colors;
+
+    /**
+     * Square a pawn may capture en passant on, or {@link Square#NONE}
+     */
+    private int enPassant;
+
+    /**
+     * Number of the full move, starting at {@code 1}
+     */
+    private int fullmove;
+
+    /**
+     * Half moves since the last capture or pawn move
+     */
+    private int halfmove;
+
+    /**
+     * Undo record of each move made, packing the {@link MoveCode} in bits
+     * {@code 0-14}, the captured {@link PieceCode} in bits {@code 16-19}, the
+     * previous {@link #castling} in bits {@code 20-23}, the previous
+     * {@link #enPassant} plus one in bits {@code 24-30} and the previous
+     * {@link #halfmove} in bits {@code 32-63}
+     */
+    private long[] history;
+
+    /**
+     * {@link Zobrist} key of the position
+     */
+    private long key;
+
+    /**
+     * {@link Zobrist} key before each move made, indexed like {@link #history}
+     */
+    private long[] keys;
+
+    /**
+     * {@link MoveList} reused by {@link #hasLegalMove()}, created on first use
+     */
+    private MoveList moves;
+
+    /**
+     * Bitboard of every piece on the board
+     */
+    private long occupied;
+
+    /**
+     * Bitboard of each piece, indexed by {@link PieceCode}
+     */
+    private final long[] pieces;
+
+    /**
+     * Number of moves made since the position was loaded
+     */
+    private int ply;
+
+    /**
+     * Number of pieces of a colour attacking each square, indexed by colour
+     * then square
+     */
+    private final int[][] pressure;
+
+    /**
+     * Colour to move
+     */
+    private int side;
+
+    /**
+     * Number of records kept in {@link #history}.<br>
+     * The moves from {@link #ply} up to this were unmade and may be redone,
+     * until a different move is made.
+     */
+    private int top;
+
+    /**
+     * Constructor for the initial position
+     */
+    public Position() {
+        this(START);
+    }
+
+    /**
+     * Copy constructor
+     *
+     * @param other {@link Position} to copy
+     */
+    public Position(final Position other) {
+        Objects.requireNonNull(other, "Position cannot be null");
+        this.attacked = other.attacked.clone();
+        this.attacks = other.attacks.clone();
+        this.board = other.board.clone();
+        this.colors = other.colors.clone();
+        this.pieces = other.pieces.clone();
+        this.pressure = new int[][]{other.pressure[WHITE].clone(), other.pressure[BLACK].clone()};
+        this.occupied = other.occupied;
+        this.castling = other.castling;
+        this.enPassant = other.enPassant;
+        this.fullmove = other.fullmove;
+        this.history = other.history.clone();
+        this.key = other.key;
+        this.keys = other.keys.clone();
+        this.ply = other.ply;
+        this.top = other.top;
+        this.halfmove = other.halfmove;
+        this.side = other.side;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param fen Forsyth-Edwards Notation of the position
+     */
+    public Position(final String fen) {
+        this.attacked = new long[2];
+        this.attacks = new long[64];
+        this.board = new int[64];
+        this.colors = new long[2];
+        this.history = new long[256];
+        this.keys = new long[256];
+        this.pieces = new long[15];
+        this.pressure = new int[2][64];
+        this.load(fen);
+    }
+
+    /**
+     * Get every square a colour attacks
+     *
+     * @param color {@link PieceCode#WHITE} or {@link PieceCode#BLACK}
+     * @return bitboard of the attacked squares
+     */
+    public long attacked(final int color) {
+        return this.attacked[color];
+    }
+
+    /**
+     * Find every piece of a colour attacking a square
+     *
+     * @param square   square to inspect
+     * @param by       attacking colour
+     * @param occupied bitboard of the pieces blocking sliders
+     * @return bitboard of the attacking pieces
+     */
+    public long attackers(final int square, final int by, final long occupied) {
+        final long queens = this.pieces[of(by, QUEEN)];
+        return Attacks.pawn(by ^ 1, square) & this.pieces[of(by, PAWN)]
+                | Attacks.knight(square) & this.pieces[of(by, KNIGHT)]
+                | Attacks.king(square) & this.pieces[of(by, KING)]
+                | Attacks.rook(square, occupied) & (this.pieces[of(by, ROOK)] | queens)
+                | Attacks.bishop(square, occupied) & (this.pieces[of(by, BISHOP)] | queens);
+    }
+
+    /**
+     * Determine if the king of the side to move may castle from one square to
+     * another
+     *
+     * @param from square of the king
+     * @param to   destination of the king
+     * @return {@code true} if castling is allowed<br>
+     * {@code false} otherwise
+     */
+    boolean canCastle(final int from, final int to) {
+        final int home = this.side == WHITE ? Square.of(0, 4) : Square.of(7, 4);
+        if (from != home || Square.rank(to) != Square.rank(from))
+            return false;
+
+        final int right, rook;
+        switch (to - from) {
+            case 2:
+                right = this.side == WHITE ? WHITE_KINGSIDE : BLACK_KINGSIDE;
+                rook = from + 3;
+                break;
+            case -2:
+                right = this.side == WHITE ? WHITE_QUEENSIDE : BLACK_QUEENSIDE;
+                rook = from - 4;
+                break;
+            default:
+                return false;
+        }
+
+        if ((this.castling & right) == 0 || this.board[rook] != of(this.side, ROOK) || !this.clear(from, rook))
+            return false;
+
+        // The king may not castle out of, through or into check
+        final int them = this.side ^ 1, step = Integer.signum(to - from);
+        return !this.isAttacked(from, them) && !this.isAttacked(from + step, them) && !this.isAttacked(to, them);
+    }
+
+    /**
+     * Determine if the path between two squares on a line is empty
+     *
+     * @param from first square
+     * @param to   last square
+     * @return {@code true} if no piece stands strictly between the squares<br>
+     * {@code false} otherwise
+     */
+    private boolean clear(final int from, final int to) {
+        return (Bitboards.between(from, to) & this.occupied) == 0;
+    }
+
+    /**
+     * Encode a move of the side to move with its flags.<br>
+     * This method assumes the move is {@link #isLegal(int, int)}
+     *
+     * @param from      source square
+     * @param to        destination square
+     * @param promotion type to promote a pawn to, {@link PieceCode#NONE} for a queen
+     * @return {@link MoveCode} of the move
+     */
+    public int encode(final int from, final int to, final int promotion) {
+        final boolean last = type(this.board[from]) == PAWN && (Square.rank(to) == 0 || Square.rank(to) == 7);
+        int move = MoveCode.of(from, to, last ? promotion == NONE ? QUEEN : promotion : NONE);
+        if (this.board[to] != NONE)
+            move |= MoveCode.CAPTURE;
+        if (this.isEnPassant(from, to))
+            move |= MoveCode.CAPTURE | MoveCode.EN_PASSANT;
+        if (this.isCastle(from, to))
+            move |= MoveCode.CASTLE;
+        return move;
+    }
+
+    /**
+     * Get the piece on a square
+     *
+     * @param square square to inspect
+     * @return {@link PieceCode} of the piece, or {@link PieceCode#NONE}
+     */
+    public int get(final int square) {
+        return this.board[square];
+    }
+
+    /**
+     * Get {@link #castling}
+     *
+     * @return {@link #castling}
+     */
+    public int getCastling() {
+        return this.castling;
+    }
+
+    /**
+     * Get {@link #enPassant}
+     *
+     * @return {@link #enPassant}
+     */
+    public int getEnPassant() {
+        return this.enPassant;
+    }
+
+    /**
+     * Get {@link #halfmove}
+     *
+     * @return {@link #halfmove}
+     */
+    public int getHalfmove() {
+        return this.halfmove;
+    }
+
+    /**
+     * Get {@link #key}
+     *
+     * @return {@link #key}
+     */
+    public long getKey() {
+        return this.key;
+    }
+
+    /**
+     * Get a move made since the position was loaded
+     *
+     * @param ply index of the move, below {@link #ply} or a move that may be {@link #redo()}ne
+     * @return {@link MoveCode} of the move, without flags, or {@link MoveCode#NONE} for a null move
+     * @throws IndexOutOfBoundsException if no move was recorded at that ply
+     */
+    public int getMove(final int ply) throws IndexOutOfBoundsException {
+        return (int) this.history[Objects.checkIndex(ply, this.top)] & MoveCode.MOVE_MASK;
+    }
+
+    /**
+     * Get {@link #occupied}
+     *
+     * @return {@link #occupied}
+     */
+    public long getOccupied() {
+        return this.occupied;
+    }
+
+    /**
+     * Get {@link #ply}
+     *
+     * @return {@link #ply}
+     */
+    public int getPly() {
+        return this.ply;
+    }
+
+    /**
+     * Get {@link #side}
+     *
+     * @return {@link #side}
+     */
+    public int getSide() {
+        return this.side;
+    }
+
+    /**
+     * Determine if the side to move has at least one legal move
+     *
+     * @return {@code true} if a legal move exists<br>
+     * {@code false} if the side to move is mated or stalemated
+     */
+    public boolean hasLegalMove() {
+        if (this.moves == null)
+            this.moves = new MoveList();
+        MoveGenerator.generate(this, this.moves);
+        return !this.moves.isEmpty();
+    }
+
+    /**
+     * Determine if the side to move is in check
+     *
+     * @return {@code true} if the king of the side to move is attacked<br>
+     * {@code false} otherwise
+     */
+    public boolean inCheck() {
+        return this.isAttacked(this.king(this.side), this.side ^ 1);
+    }
+
+    /**
+     * Determine if a square is attacked by a colour
+     *
+     * @param square square to inspect
+     * @param by     attacking colour
+     * @return {@code true} if any piece of that colour attacks the square<br>
+     * {@code false} otherwise
+     */
+    public boolean isAttacked(final int square, final int by) {
+        return Bitboards.has(this.attacked[by], square);
+    }
+
+    /**
+     * Determine if a move is a castle.<br>
+     * This method assumes the move is {@link #isLegal(int, int)}
+     *
+     * @param from source square
+     * @param to   destination square
+     * @return {@code true} if a king moves two files<br>
+     * {@code false} otherwise
+     */
+    public boolean isCastle(final int from, final int to) {
+        return type(this.board[from]) == KING && Math.abs(Square.file(to) - Square.file(from)) == 2;
+    }
+
+    /**
+     * Determine if a move captures en passant.<br>
+     * This method assumes the move is {@link #isLegal(int, int)}
+     *
+     * @param from source square
+     * @param to   destination square
+     * @return {@code true} if a pawn captures on {@link #enPassant}<br>
+     * {@code false} otherwise
+     */
+    public boolean isEnPassant(final int from, final int to) {
+        return to == this.enPassant && type(this.board[from]) == PAWN && Square.file(from) != Square.file(to);
+    }
+
+    /**
+     * Determine if the side to move may play a move
+     *
+     * @param from source square
+     * @param to   destination square
+     * @return {@code true} if the move follows the rules and does not leave the
+     * king in check<br>
+     * {@code false} otherwise
+     */
+    public boolean isLegal(final int from, final int to) {
+        if (!this.isPseudoLegal(from, to))
+            return false;
+        // Squares attacked now stay attacked once the king has moved
+        if (type(this.board[from]) == KING && Bitboards.has(this.attacked[this.side ^ 1], to))
+            return false;
+
+        // Lift the moved and captured pieces off the occupancy and look for attackers of the king
+        final int victim = this.isEnPassant(from, to) ? Square.of(Square.rank(from), Square.file(to)) : to;
+        final long captured = Bitboards.bit(victim);
+        final long occupied = (this.occupied ^ Bitboards.bit(from)) & ~captured | Bitboards.bit(to);
+        final int king = type(this.board[from]) == KING ? to : this.king(this.side);
+        return (this.attackers(king, this.side ^ 1, occupied) & ~captured) == 0;
+    }
+
+    /**
+     * Determine if a move follows the movement rules of its piece, without
+     * considering if the own king is left in check
+     *
+     * @param from source square
+     * @param to   destination square
+     * @return {@code true} if the piece may move there<br>
+     * {@code false} otherwise
+     */
+    private boolean isPseudoLegal(final int from, final int to) {
+        if (from == to || (from | to) < 0 || from > 63 || to > 63)
+            return false;
+
+        final int piece = this.board[from], target = this.board[to];
+        if (piece == NONE || color(piece) != this.side)
+            return false;
+        if (target != NONE && color(target) == this.side)
+            return false;
+
+        final int df = Square.file(to) - Square.file(from), dr = Square.rank(to) - Square.rank(from);
+        return switch (type(piece)) {
+            case PAWN -> {
+                final int forward = this.side == WHITE ? 1 : -1;
+                if (Bitboards.has(Attacks.pawn(this.side, from), to))
+                    yield target != NONE || to == this.enPassant;
+                if (df != 0 || target != NONE)
+                    yield false;
+                if (dr == forward)
+                    yield true;
+                final int home = this.side == WHITE ? 1 : 6;
+                yield dr == 2 * forward && Square.rank(from) == home && this.board[from + 8 * forward] == NONE;
+            }
+            case KNIGHT -> Bitboards.has(Attacks.knight(from), to);
+            case BISHOP -> Bitboards.has(Attacks.bishop(from, this.occupied), to);
+            case ROOK -> Bitboards.has(Attacks.rook(from, this.occupied), to);
+            case QUEEN -> Bitboards.has(Attacks.queen(from, this.occupied), to);
+            case KING -> Bitboards.has(Attacks.king(from), to) || this.canCastle(from, to);
+            default -> false;
+        };
+    }
+
+    /**
+     * Determine if the position occurred before since the last capture or
+     * pawn move
+     *
+     * @return {@code true} if an earlier position has the same {@link #key}<br>
+     * {@code false} otherwise
+     */
+    public boolean isRepetition() {
+        for (int ply = this.ply - 4; ply >= Math.max(0, this.ply - this.halfmove); ply -= 2)
+            if (this.keys[ply] == this.key)
+                return true;
+        return false;
+    }
+
+    /**
+     * Get the square of a king
+     *
+     * @param color colour of the king
+     * @return square of the king
+     */
+    public int king(final int color) {
+        return Bitboards.first(this.pieces[of(color, KING)]);
+    }
+
+    /**
+     * Load a position from Forsyth-Edwards Notation.<br>
+     * The half move clock and full move number may be omitted.
+     *
+     * @param fen Forsyth-Edwards Notation
+     * @throws IllegalArgumentException if the notation cannot be parsed
+     */
+    public void load(final String fen) throws IllegalArgumentException {
+        Objects.requireNonNull(fen, "FEN cannot be null");
+        final String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4)
+            throw new IllegalArgumentException("Illegal FEN:\t" + fen);
+
+        Arrays.fill(this.attacked, 0L);
+        Arrays.fill(this.attacks, 0L);
+        Arrays.fill(this.board, NONE);
+        Arrays.fill(this.colors, 0L);
+        Arrays.fill(this.pieces, 0L);
+        Arrays.fill(this.pressure[WHITE], 0);
+        Arrays.fill(this.pressure[BLACK], 0);
+        this.occupied = 0L;
+        this.ply = 0;
+        this.top = 0;
+        int rank = 7, file = 0;
+        for (final char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                --rank;
+                file = 0;
+            } else if (Character.isDigit(c))
+                file += c - '0';
+            else {
+                if (!Square.isValid(rank, file))
+                    throw new IllegalArgumentException("Illegal FEN:\t" + fen);
+                this.put(Square.of(rank, file), fromFEN(c));
+                ++file;
+            }
+        }
+        if (Long.bitCount(this.pieces[of(WHITE, KING)]) != 1 || Long.bitCount(this.pieces[of(BLACK, KING)]) != 1)
+            throw new IllegalArgumentException("Exactly one king per side is required:\t" + fen);
+
+        this.side = switch (fields[1]) {
+            case "w" -> WHITE;
+            case "b" -> BLACK;
+            default -> throw new IllegalArgumentException("Illegal side to move:\t" + fields[1]);
+        };
+
+        this.castling = 0;
+        for (final char c : fields[2].toCharArray())
+            this.castling |= switch (c) {
+                case 'K' -> WHITE_KINGSIDE;
+                case 'Q' -> WHITE_QUEENSIDE;
+                case 'k' -> BLACK_KINGSIDE;
+                case 'q' -> BLACK_QUEENSIDE;
+                case '-' -> 0;
+                default -> throw new IllegalArgumentException("Illegal castling rights:\t" + fields[2]);
+            };
+
+        this.enPassant = fields[3].equals("-") ? Square.NONE : Square.parse(fields[3]);
+        this.halfmove = fields.length > 4 ? Integer.parseInt(fields[4]) : 0;
+        this.fullmove = fields.length > 5 ? Integer.parseInt(fields[5]) : 1;
+        this.key = Zobrist.compute(this);
+    }
+
+    /**
+     * Make a move for the side to move and record how to unmake it.<br>
+     * This method assumes the move is {@link #isLegal(int, int)}
+     *
+     * @param move {@link MoveCode} of the move, a pawn reaching the last rank
+     *             without a promotion type becomes a queen
+     */
+    public void make(final int move) {
+        final int from = MoveCode.from(move), to = MoveCode.to(move);
+        final int piece = this.board[from], captured = this.board[to];
+        final int type = type(piece);
+        final int promotion = type == PAWN && (Square.rank(to) == 0 || Square.rank(to) == 7)
+                ? MoveCode.promotion(move) == NONE ? QUEEN : MoveCode.promotion(move) : NONE;
+
+        if (this.ply == this.history.length) {
+            this.history = Arrays.copyOf(this.history, 2 * this.ply);
+            this.keys = Arrays.copyOf(this.keys, 2 * this.ply);
+        }
+        // Making the move that would be redone keeps the moves after it
+        final int code = MoveCode.of(from, to, promotion);
+        if (this.ply == this.top || ((int) this.history[this.ply] & MoveCode.MOVE_MASK) != code)
+            this.top = this.ply + 1;
+        this.keys[this.ply] = this.key;
+        this.history[this.ply++] = code | (long) captured << 16 | (long) this.castling << 20
+                | (long) (this.enPassant + 1) << 24 | (long) this.halfmove << 32;
+
+        if (this.isEnPassant(from, to))
+            this.remove(Square.of(Square.rank(from), Square.file(to)));
+        if (this.isCastle(from, to))
+            this.put((from + to) / 2, this.remove(to > from ? from + 3 : from - 4));
+
+        if (captured != NONE)
+            this.remove(to);
+        this.remove(from);
+        this.put(to, promotion == NONE ? piece : of(this.side, promotion));
+
+        this.key ^= Zobrist.castling(this.castling) ^ Zobrist.enPassant(this.enPassant) ^ Zobrist.side();
+        this.castling &= rights(from) & rights(to);
+        this.enPassant = type == PAWN && Math.abs(to - from) == 16 ? (from + to) / 2 : Square.NONE;
+        this.key ^= Zobrist.castling(this.castling) ^ Zobrist.enPassant(this.enPassant);
+        this.halfmove = type == PAWN || captured != NONE ? 0 : this.halfmove + 1;
+        if (this.side == BLACK)
+            ++this.fullmove;
+        this.side ^= 1;
+    }
+
+    /**
+     * Pass the turn to the other side without moving, and record how to
+     * unmake it.<br>
+     * The search uses null moves to prove a position is strong enough that
+     * even passing holds. The half move clock restarts, so no repetition is
+     * found across a null move.<br>
+     * Like {@link #make(int)}, passing where a null move would be redone keeps
+     * the moves after it, while passing anywhere else ends the line that could
+     * be redone; the search only passes on its own copy of a position.
+     */
+    public void makeNull() {
+        if (this.ply == this.history.length) {
+            this.history = Arrays.copyOf(this.history, 2 * this.ply);
+            this.keys = Arrays.copyOf(this.keys, 2 * this.ply);
+        }
+        if (this.ply == this.top || ((int) this.history[this.ply] & MoveCode.MOVE_MASK) != MoveCode.NONE)
+            this.top = this.ply + 1;
+        this.keys[this.ply] = this.key;
+        this.history[this.ply++] = MoveCode.NONE | (long) this.castling << 20 | (long) (this.enPassant + 1) << 24
+                | (long) this.halfmove << 32;
+
+        this.key ^= Zobrist.enPassant(this.enPassant) ^ Zobrist.side();
+        this.enPassant = Square.NONE;
+        this.key ^= Zobrist.enPassant(this.enPassant);
+        this.halfmove = 0;
+        if (this.side == BLACK)
+            ++this.fullmove;
+        this.side ^= 1;
+    }
+
+    /**
+     * Record the squares attacked by the pieces on a set of squares
+     *
+     * @param squares bitboard of occupied squares
+     */
+    private void mark(final long squares) {
+        for (long remaining = squares; remaining != 0; remaining &= remaining - 1) {
+            final int square = Bitboards.first(remaining), piece = this.board[square], color = color(piece);
+            final long attacks = Attacks.of(piece, square, this.occupied);
+            this.attacks[square] = attacks;
+            for (long targets = attacks; targets != 0; targets &= targets - 1) {
+                final int target = Bitboards.first(targets);
+                if (this.pressure[color][target]++ == 0)
+                    this.attacked[color] |= Bitboards.bit(target);
+            }
+        }
+    }
+
+    /**
+     * Get every piece of a colour
+     *
+     * @param color {@link PieceCode#WHITE} or {@link PieceCode#BLACK}
+     * @return bitboard of the pieces
+     */
+    public long occupancy(final int color) {
+        return this.colors[color];
+    }
+
+    /**
+     * Get every piece of a colour and type
+     *
+     * @param color {@link PieceCode#WHITE} or {@link PieceCode#BLACK}
+     * @param type  one of {@link PieceCode#PAWN} to {@link PieceCode#KING}
+     * @return bitboard of the pieces
+     */
+    public long pieces(final int color, final int type) {
+        return this.pieces[of(color, type)];
+    }
+
+    /**
+     * Converts the pieces into the first field of Forsyth-Edwards Notation
+     *
+     * @return piece placement, from rank 8 to rank 1
+     */
+    public String placement() {
+        final StringBuilder out = new StringBuilder();
+        for (int rank = 7; rank >= 0; --rank) {
+            int count = 0;
+            for (int file = 0; file < 8; ++file) {
+                final int piece = this.board[Square.of(rank, file)];
+                if (piece == NONE) {
+                    ++count;
+                    continue;
+                }
+                if (count != 0)
+                    out.append(count);
+                out.append(toFEN(piece));
+                count = 0;
+            }
+            if (count != 0)
+                out.append(count);
+            if (rank != 0)
+                out.append('/');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Play a move for the side to move.<br>
+     * This method assumes the move is {@link #isLegal(int, int)}
+     *
+     * @param from      source square
+     * @param to        destination square
+     * @param promotion type to promote a pawn to, {@link PieceCode#NONE} for a queen
+     */
+    public void play(final int from, final int to, final int promotion) {
+        this.make(MoveCode.of(from, to, promotion));
+    }
+
+    /**
+     * Place a piece on an empty square
+     *
+     * @param square empty square
+     * @param piece  {@link PieceCode} of the piece
+     */
+    private void put(final int square, final int piece) {
+        final long bit = Bitboards.bit(square), sliders = this.sliders(square);
+        this.unmark(sliders);
+        this.board[square] = piece;
+        this.key ^= Zobrist.piece(piece, square);
+        this.pieces[piece] |= bit;
+        this.colors[color(piece)] |= bit;
+        this.occupied |= bit;
+        this.mark(sliders | bit);
+    }
+
+    /**
+     * Make again the last move unmade by {@link #unmake()}
+     *
+     * @throws IllegalStateException if no move was unmade since the last move made
+     */
+    public void redo() throws IllegalStateException {
+        if (this.ply == this.top)
+            throw new IllegalStateException("Illegal redo:\tno move was unmade");
+
+        final int move = (int) this.history[this.ply] & MoveCode.MOVE_MASK;
+        if (move == MoveCode.NONE)
+            this.makeNull();
+        else
+            this.make(move);
+    }
+
+    /**
+     * Take the piece off an occupied square
+     *
+     * @param square occupied square
+     * @return {@link PieceCode} of the removed piece
+     */
+    private int remove(final int square) {
+        final long bit = Bitboards.bit(square), sliders = this.sliders(square);
+        final int piece = this.board[square];
+        this.unmark(sliders | bit);
+        this.board[square] = NONE;
+        this.key ^= Zobrist.piece(piece, square);
+        this.pieces[piece] &= ~bit;
+        this.colors[color(piece)] &= ~bit;
+        this.occupied &= ~bit;
+        this.mark(sliders);
+        return piece;
+    }
+
+    /**
+     * Get the castling rights kept when a piece moves from or to a square
+     *
+     * @param square square touched by a move
+     * @return mask of castling rights
+     */
+    private static int rights(final int square) {
+        return switch (square) {
+            case 0 -> ~WHITE_QUEENSIDE;
+            case 4 -> ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+            case 7 -> ~WHITE_KINGSIDE;
+            case 56 -> ~BLACK_QUEENSIDE;
+            case 60 -> ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+            case 63 -> ~BLACK_KINGSIDE;
+            default -> ~0;
+        };
+    }
+
+    /**
+     * Find the sliders of both colours whose attacks stop on or pass a square
+     *
+     * @param square square whose occupancy changes
+     * @return bitboard of the sliders
+     */
+    private long sliders(final int square) {
+        final long queens = this.pieces[of(WHITE, QUEEN)] | this.pieces[of(BLACK, QUEEN)];
+        final long rooks = this.pieces[of(WHITE, ROOK)] | this.pieces[of(BLACK, ROOK)] | queens;
+        final long bishops = this.pieces[of(WHITE, BISHOP)] | this.pieces[of(BLACK, BISHOP)] | queens;
+        return Attacks.rook(square, this.occupied) & rooks | Attacks.bishop(square, this.occupied) & bishops;
+    }
+
+    /**
+     * Converts this into Forsyth-Edwards Notation
+     *
+     * @return Forsyth-Edwards Notation
+     */
+    @Override
+    public String toString() {
+        final StringBuilder castle = new StringBuilder();
+        if ((this.castling & WHITE_KINGSIDE) != 0)
+            castle.append('K');
+        if ((this.castling & WHITE_QUEENSIDE) != 0)
+            castle.append('Q');
+        if ((this.castling & BLACK_KINGSIDE) != 0)
+            castle.append('k');
+        if ((this.castling & BLACK_QUEENSIDE) != 0)
+            castle.append('q');
+
+        return String.format("%s %c %s %s %d %d", this.placement(), this.side == WHITE ? 'w' : 'b',
+                castle.isEmpty() ? "-" : castle, Square.toString(this.enPassant), this.halfmove, this.fullmove);
+    }
+
+    /**
+     * Unmake the last move made, or null move, restoring the position before it
+     *
+     * @throws IllegalStateException if no move was made
+     */
+    public void unmake() throws IllegalStateException {
+        if (this.ply == 0)
+            throw new IllegalStateException("Illegal unmake:\tno move was made");
+
+        final long undo = this.history[--this.ply];
+        final int move = (int) undo & MoveCode.MOVE_MASK, from = MoveCode.from(move), to = MoveCode.to(move);
+        final int captured = (int) (undo >>> 16 & 15);
+        this.side ^= 1;
+        if (this.side == BLACK)
+            --this.fullmove;
+        this.castling = (int) (undo >>> 20 & 15);
+        this.enPassant = (int) (undo >>> 24 & 127) - 1;
+        this.halfmove = (int) (undo >>> 32);
+        if (move == MoveCode.NONE) {
+            this.key = this.keys[this.ply];
+            return;
+        }
+
+        final int piece = this.remove(to);
+        this.put(from, MoveCode.promotion(move) == NONE ? piece : of(this.side, PAWN));
+        if (captured != NONE)
+            this.put(to, captured);
+        else if (this.isEnPassant(from, to))
+            this.put(Square.of(Square.rank(from), Square.file(to)), of(this.side ^ 1, PAWN));
+        if (this.isCastle(from, to))
+            this.put(to > from ? from + 3 : from - 4, this.remove((from + to) / 2));
+        this.key = this.keys[this.ply];
+    }
+
+    /**
+     * Forget the squares attacked by the pieces on a set of squares
+     *
+     * @param squares bitboard of occupied squares
+     */
+    private void unmark(final long squares) {
+        for (long remaining = squares; remaining != 0; remaining &= remaining - 1) {
+            final int square = Bitboards.first(remaining), color = color(this.board[square]);
+            for (long targets = this.attacks[square]; targets != 0; targets &= targets - 1) {
+                final int target = Bitboards.first(targets);
+                if (--this.pressure[color][target] == 0)
+                    this.attacked[color] &= ~Bitboards.bit(target);
+            }
+            this.attacks[square] = 0L;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package net.chess.chess.position;
+
+/**
+ * Squares of the {@link Position} encoded as {@code int}.<br>
+ * Square {@code 0} is a1, square {@code 7} is h1 and square {@code 63} is h8.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Square {
+    /**
+     * Value used when there is no square
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Constructor
+     */
+    private Square() {
+    }
+
+    /**
+     * Get the file of a square
+     *
+     * @param square square to inspect
+     * @return file from {@code 0} (a) to {@code 7} (h)
+     */
+    public static int file(final int square) {
+        return square & 7;
+    }
+
+    /**
+     * Determine if a rank and file lie on the board
+     *
+     * @param rank rank from {@code 0} to {@code 7}
+     * @param file file from {@code 0} to {@code 7}
+     * @return {@code true} if the coordinates are on the board<br>
+     * {@code false} otherwise
+     */
+    public static boolean isValid(final int rank, final int file) {
+        return (rank | file) >= 0 && rank < 8 && file < 8;
+    }
+
+    /**
+     * Get the square at a rank and file
+     *
+     * @param rank rank from {@code 0} (1) to {@code 7} (8)
+     * @param file file from {@code 0} (a) to {@code 7} (h)
+     * @return square
+     */
+    public static int of(final int rank, final int file) {
+        return rank << 3 | file;
+    }
+
+    /**
+     * Parse a square written in algebraic notation
+     *
+     * @param square {@link String} such as {@code "e4"}
+     * @return square
+     * @throws IllegalArgumentException if the {@link String} is not a square
+     */
+    public static int parse(final String square) throws IllegalArgumentException {
+        if (square == null || square.length() != 2)
+            throw new IllegalArgumentException("Illegal square:\t" + square);
+
+        final int file = square.charAt(0) - 'a', rank = square.charAt(1) - '1';
+        if (!isValid(rank, file))
+            throw new IllegalArgumentException("Illegal square:\t" + square);
+        return of(rank, file);
+    }
+
+    /**
+     * Get the rank of a square
+     *
+     * @param square square to inspect
+     * @return rank from {@code 0} (1) to {@code 7} (8)
+     */
+    public static int rank(final int square) {
+        return square >>> 3;
+    }
+
+    /**
+     * Converts a square into algebraic notation
+     *
+     * @param square square to convert
+     * @return {@link String} such as {@code "e4"}, or {@code "-"} for {@link #NONE}
+     */
+    public static String toString(final int square) {
+        if (square == NONE)
+            return "-";
+        return String.valueOf((char) ('a' + file(square))) + (char) ('1' + rank(square));
+    }
+}
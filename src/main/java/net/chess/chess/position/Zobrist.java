@@ -0,0 +1,114 @@
+package net.chess.chess.position;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys of a {@link Position}.<br>
+ * Every feature of a position, a piece on a square, the side to move, the
+ * castling rights and the file of the en passant square, owns a random
+ * {@code long}. The key of a position is the exclusive or of the features it
+ * holds, so a move updates it by toggling only the features it changes.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+public final class Zobrist {
+    /**
+     * Key of each combination of castling rights
+     */
+    private static final long[] castling = new long[16];
+
+    /**
+     * Key of each en passant file
+     */
+    private static final long[] en_passant = new long[8];
+
+    /**
+     * Key of each piece on each square, indexed by {@link PieceCode} then square
+     */
+    private static final long[][] pieces = new long[15][64];
+
+    /**
+     * Key toggled when {@link PieceCode#BLACK} is to move
+     */
+    private static final long side;
+
+    static {
+        // A fixed seed keeps keys stable between runs
+        final SplittableRandom random = new SplittableRandom(0x5DEECE66DL);
+        for (final long[] squares : pieces)
+            for (int square = 0; square < 64; ++square)
+                squares[square] = random.nextLong();
+        for (int rights = 0; rights < 16; ++rights)
+            castling[rights] = random.nextLong();
+        castling[0] = 0L;
+        for (int file = 0; file < 8; ++file)
+            en_passant[file] = random.nextLong();
+        side = random.nextLong();
+    }
+
+    /**
+     * Constructor
+     */
+    private Zobrist() {
+    }
+
+    /**
+     * Get the key of castling rights
+     *
+     * @param rights combination of the castling rights of {@link Position}
+     * @return key of the rights, {@code 0} when no right is held
+     */
+    public static long castling(final int rights) {
+        return castling[rights];
+    }
+
+    /**
+     * Compute the key of a position from scratch
+     *
+     * @param position {@link Position} to hash
+     * @return key of the position
+     */
+    public static long compute(final Position position) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        long key = castling(position.getCastling()) ^ enPassant(position.getEnPassant());
+        if (position.getSide() == PieceCode.BLACK)
+            key ^= side();
+        for (long occupied = position.getOccupied(); occupied != 0; occupied &= occupied - 1) {
+            final int square = Bitboards.first(occupied);
+            key ^= piece(position.get(square), square);
+        }
+        return key;
+    }
+
+    /**
+     * Get the key of an en passant square
+     *
+     * @param square en passant square, or {@link Square#NONE}
+     * @return key of the file of the square, {@code 0} for {@link Square#NONE}
+     */
+    public static long enPassant(final int square) {
+        return square == Square.NONE ? 0L : en_passant[Square.file(square)];
+    }
+
+    /**
+     * Get the key of a piece on a square
+     *
+     * @param piece  {@link PieceCode} of the piece
+     * @param square square of the piece
+     * @return key of the piece on the square
+     */
+    public static long piece(final int piece, final int square) {
+        return pieces[piece][square];
+    }
+
+    /**
+     * Get the key toggled when {@link PieceCode#BLACK} is to move
+     *
+     * @return key of the side to move
+     */
+    public static long side() {
+        return side;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Headless model of a chess position.<br>
+ * Nothing in this package depends on JavaFX, so games can be validated and
+ * replayed without a running toolkit.
+ */
+package net.chess.chess.position;
@@ -0,0 +1,32 @@
+package net.chess.chess.engine;
+
+import net.chess.chess.position.Position;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link Search}
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+class SearchTest {
+    /**
+     * Bare kings, a draw searched to the deepest iteration within a second
+     */
+    private static final String bare_kings = "8/8/4k3/8/8/4K3/8/8 w - - 0 1";
+
+    /**
+     * The deepest iteration {@link Limits} accept is searched to the end,
+     * late move reductions included
+     */
+    @Test
+    void searchesToMaxPly() {
+        final Search search = new Search(new TranspositionTable(Engine.DEFAULT_HASH));
+        final SearchResult result = search.search(new Position(bare_kings), Limits.depth(Search.MAX_PLY));
+        assertEquals(Search.MAX_PLY, result.depth);
+        assertEquals(0, result.score);
+        assertTrue(result.getPV().length > 0);
+    }
+}
@@ -0,0 +1,64 @@
+package net.chess.chess.perft;
+
+import net.chess.chess.position.Position;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link Perft} against every {@link ReferencePosition}, the oracle
+ * of the move generator
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+class PerftTest {
+    /**
+     * Deepest depth checked, quick enough for every build
+     */
+    private static final int depth = 4;
+
+    /**
+     * Size in bytes of the {@link PerftTable} of the tests caching counts
+     */
+    private static final long hash = 1L << 20;
+
+    /**
+     * Counts on a single thread match every known count to {@link #depth}
+     */
+    @Test
+    void countsReferencePositions() {
+        for (final ReferencePosition reference : ReferencePosition.values()) {
+            final Perft perft = new Perft(new Position(reference.fen));
+            for (int ply = 1; ply <= depth; ++ply)
+                assertEquals(reference.getNodes(ply), perft.count(ply), reference + " depth " + ply);
+        }
+    }
+
+    /**
+     * Counts split into {@link PerftTask}s sharing a {@link PerftTable} match
+     * the known counts, so neither the split nor the cache loses a node
+     */
+    @Test
+    void countsReferencePositionsOnThreads() {
+        for (final ReferencePosition reference : ReferencePosition.values()) {
+            final Perft perft = new Perft(new Position(reference.fen), new PerftTable(hash));
+            for (int ply = 1; ply <= depth; ++ply)
+                assertEquals(reference.getNodes(ply), perft.count(ply, 2), reference + " depth " + ply);
+        }
+    }
+
+    /**
+     * The counts below each root move add up to the known count, with and
+     * without a {@link PerftTable}
+     */
+    @Test
+    void dividesReferencePositions() {
+        for (final ReferencePosition reference : ReferencePosition.values())
+            for (final PerftTable table : new PerftTable[] {null, new PerftTable(hash)}) {
+                final long nodes = new Perft(new Position(reference.fen), table).divide(depth, 2).values().stream()
+                        .mapToLong(Long::longValue).sum();
+                assertEquals(reference.getNodes(depth), nodes, reference + " depth " + depth);
+            }
+    }
+}
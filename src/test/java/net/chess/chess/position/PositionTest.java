@@ -0,0 +1,49 @@
+package net.chess.chess.position;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link Position}
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 17
+ */
+class PositionTest {
+    /**
+     * Redoing a null move keeps the moves unmade after it, as redoing a move
+     * does
+     */
+    @Test
+    void redoesAcrossNullMove() {
+        final Position position = new Position();
+        position.play(Square.parse("e2"), Square.parse("e4"), PieceCode.NONE);
+        position.makeNull();
+        position.play(Square.parse("d2"), Square.parse("d4"), PieceCode.NONE);
+        final String fen = position.toString();
+        final long key = position.getKey();
+
+        while (position.getPly() > 0)
+            position.unmake();
+        while (position.getPly() < 3)
+            position.redo();
+        assertEquals(fen, position.toString());
+        assertEquals(key, position.getKey());
+    }
+
+    /**
+     * Passing where another move would be redone ends the line that could be
+     * redone, as making another move does
+     */
+    @Test
+    void nullMoveEndsOtherLine() {
+        final Position position = new Position();
+        position.play(Square.parse("e2"), Square.parse("e4"), PieceCode.NONE);
+        position.unmake();
+        position.makeNull();
+        assertThrows(IllegalStateException.class, position::redo);
+        position.unmake();
+        assertEquals(new Position().getKey(), position.getKey());
+    }
+}